@@ -97,7 +97,13 @@ public class ClientBoundPacketHandlers {
 			}
 		});
 
-		ClientPlayNetworking.registerGlobalReceiver(ChunkSyncPayload.ID, (payload, context) -> ClientChunkManager.setLoadedChunks(payload.chunks()));
+		ClientPlayNetworking.registerGlobalReceiver(ChunkSyncPayload.ID, (payload, context) -> {
+			if (payload.replace()) {
+				ClientChunkManager.setLoadedChunks(payload.chunks());
+			} else {
+				ClientChunkManager.updateLoadedChunks(payload.chunks(), payload.removed());
+			}
+		});
 		ClientPlayNetworking.registerGlobalReceiver(QueueItemStacksPayload.ID, (payload, context) -> ItemStackRenderManager.RENDER_QUEUE.addAll(payload.stacks()));
 	}
 }
@@ -35,18 +35,28 @@ import org.joml.Matrix4f;
 import reborncore.common.chunkloading.ChunkLoaderManager;
 import reborncore.common.network.serverbound.ChunkLoaderRequestPayload;
 
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 public class ClientChunkManager {
 
-	private static final List<ChunkLoaderManager.LoadedChunk> loadedChunks = new ArrayList<>();
+	private static final Set<ChunkLoaderManager.LoadedChunk> loadedChunks = new LinkedHashSet<>();
 
 	public static void setLoadedChunks(List<ChunkLoaderManager.LoadedChunk> chunks) {
 		loadedChunks.clear();
 		loadedChunks.addAll(chunks);
 	}
 
+	public static void updateLoadedChunks(List<ChunkLoaderManager.LoadedChunk> added, List<ChunkLoaderManager.LoadedChunk> removed) {
+		// Nothing is shown, the player toggled the loaded chunks off.
+		if (loadedChunks.isEmpty()) {
+			return;
+		}
+		removed.forEach(loadedChunks::remove);
+		loadedChunks.addAll(added);
+	}
+
 	public static void toggleLoadedChunks(BlockPos chunkLoader) {
 		if (loadedChunks.isEmpty()) {
 			ClientPlayNetworking.send(new ChunkLoaderRequestPayload(chunkLoader));
@@ -45,7 +45,9 @@ import reborncore.common.RebornCoreConfig;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
 import reborncore.common.blocks.BlockWrenchEventHandler;
 import reborncore.common.chunkloading.ChunkLoaderManager;
+import reborncore.common.chunkloading.WorldPregenerator;
 import reborncore.common.config.Configuration;
+import reborncore.common.explosion.RebornExplosion;
 import reborncore.common.misc.ModSounds;
 import reborncore.common.misc.RebornCoreTags;
 import reborncore.common.multiblock.MultiblockRegistry;
@@ -117,6 +119,10 @@ public class RebornCore implements ModInitializer {
 
 		ServerWorldEvents.LOAD.register((server, world) -> ChunkLoaderManager.get(world).onServerWorldLoad(world));
 		ServerTickEvents.START_WORLD_TICK.register(world -> ChunkLoaderManager.get(world).onServerWorldTick(world));
+		ServerTickEvents.END_WORLD_TICK.register(RebornExplosion::tickScheduled);
+		ServerTickEvents.END_WORLD_TICK.register(world -> WorldPregenerator.get(world).onServerWorldTick(world));
+		ServerWorldEvents.UNLOAD.register((server, world) -> WorldPregenerator.get(world).onServerWorldUnload());
+		ServerWorldEvents.UNLOAD.register((server, world) -> RebornExplosion.onWorldUnload(world));
 
 		ServerEntityEvents.EQUIPMENT_CHANGE.register((livingEntity, equipmentSlot, previousStack, currentStack) -> {
 			if (livingEntity instanceof PlayerEntity playerEntity
@@ -39,6 +39,8 @@ import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
+import reborncore.common.blockentity.MachineBaseBlockEntity;
+import reborncore.common.powerSystem.EnergyProfiler;
 
 import java.util.Optional;
 
@@ -73,9 +75,23 @@ public abstract class BaseBlockEntityProvider extends Block implements BlockEnti
 		nbtComponent.applyToBlockEntity(world.getBlockEntity(pos), world.getRegistryManager());
 	}
 
+	@Override
+	protected void neighborUpdate(BlockState state, World world, BlockPos pos, Block sourceBlock, BlockPos sourcePos, boolean notify) {
+		super.neighborUpdate(state, world, pos, sourceBlock, sourcePos, notify);
+		if (world.getBlockEntity(pos) instanceof MachineBaseBlockEntity machine) {
+			machine.onNeighborUpdate();
+		}
+	}
+
 	public <T extends BlockEntity> BlockEntityTicker<T> getTicker(World world, BlockState state, BlockEntityType<T> type) {
 		return (world1, pos, state1, blockEntity) -> {
 			if (blockEntity instanceof BlockEntityTicker) {
+				if (EnergyProfiler.isEnabled()) {
+					long start = System.nanoTime();
+					((BlockEntityTicker) blockEntity).tick(world1, pos, state1, blockEntity);
+					EnergyProfiler.recordTick(blockEntity, System.nanoTime() - start);
+					return;
+				}
 				((BlockEntityTicker) blockEntity).tick(world1, pos, state1, blockEntity);
 			}
 		};
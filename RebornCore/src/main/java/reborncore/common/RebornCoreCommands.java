@@ -42,20 +42,25 @@ import net.minecraft.registry.Registries;
 import net.minecraft.server.command.CommandManager;
 import net.minecraft.server.command.ServerCommandSource;
 import net.minecraft.server.network.ServerPlayerEntity;
-import net.minecraft.server.world.ServerChunkManager;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
-import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import reborncore.RebornCore;
+import reborncore.common.chunkloading.WorldPregenerator;
 import reborncore.common.network.NetworkManager;
 import reborncore.common.network.clientbound.QueueItemStacksPayload;
+import reborncore.common.powerSystem.EnergyProfiler;
+import reborncore.common.powerSystem.PowerSystem;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.mojang.brigadier.arguments.IntegerArgumentType.getInteger;
@@ -66,7 +71,6 @@ import static net.minecraft.server.command.CommandManager.literal;
 
 public class RebornCoreCommands {
 
-	private final static ExecutorService EXECUTOR_SERVICE = Executors.newSingleThreadExecutor();
 	private final static SuggestionProvider<ServerCommandSource> MOD_SUGGESTIONS = (context, builder) ->
 			CommandSource.suggestMatching(FabricLoader.getInstance().getAllMods().stream().map(modContainer -> modContainer.getMetadata().getId()), builder);
 
@@ -81,9 +85,35 @@ public class RebornCoreCommands {
 					.then(
 						literal("generate")
 							.requires(source -> source.hasPermissionLevel(3))
-							.then(argument("size", integer())
+							.then(argument("size", integer(1))
 									.executes(RebornCoreCommands::generate)
 							)
+							.then(literal("stop")
+									.executes(RebornCoreCommands::stopGenerate)
+							)
+							.then(literal("status")
+									.executes(RebornCoreCommands::generateStatus)
+							)
+					)
+
+					.then(
+						literal("energy")
+							.requires(source -> source.hasPermissionLevel(3))
+							.then(literal("start")
+									.executes(RebornCoreCommands::startEnergyProfiler)
+							)
+							.then(literal("stop")
+									.executes(RebornCoreCommands::stopEnergyProfiler)
+							)
+							.then(literal("stats")
+									.executes(ctx -> energyStats(ctx, 5))
+									.then(argument("count", integer(1, 50))
+											.executes(ctx -> energyStats(ctx, getInteger(ctx, "count")))
+									)
+							)
+							.then(literal("export")
+									.executes(RebornCoreCommands::exportEnergyStats)
+							)
 					)
 
 					.then(
@@ -124,26 +154,115 @@ public class RebornCoreCommands {
 
 	private static int generate(CommandContext<ServerCommandSource> ctx) {
 		final int size = getInteger(ctx, "size");
+		final ServerWorld world = ctx.getSource().getWorld();
+		final WorldPregenerator pregenerator = WorldPregenerator.get(world);
 
+		if (!pregenerator.start(size)) {
+			ctx.getSource().sendError(Text.literal("A pregeneration job is already running in this world"));
+			return 0;
+		}
+
+		ctx.getSource().sendFeedback(() -> Text.literal(String.format("Started pregenerating %d chunks, progress is logged to the server console", pregenerator.getTotal())), true);
+		return Command.SINGLE_SUCCESS;
+	}
+
+	private static int stopGenerate(CommandContext<ServerCommandSource> ctx) {
 		final ServerWorld world = ctx.getSource().getWorld();
-		final ServerChunkManager serverChunkManager = world.getChunkManager();
-		final AtomicInteger completed = new AtomicInteger(0);
-
-		for (int x = -(size / 2); x < size / 2; x++) {
-			for (int z = -(size / 2); z < size / 2; z++) {
-				final int chunkPosX = x;
-				final int chunkPosZ = z;
-				CompletableFuture.supplyAsync(() -> serverChunkManager.getChunk(chunkPosX, chunkPosZ, ChunkStatus.FULL, true), EXECUTOR_SERVICE)
-						.whenComplete((chunk, throwable) -> {
-									int max = (int) Math.pow(size, 2);
-									ctx.getSource().sendFeedback(() -> Text.literal(String.format("Finished generating %d:%d (%d/%d %d%%)", chunk.getPos().x, chunk.getPos().z, completed.getAndIncrement(), max, completed.get() == 0 ? 0 : (int) ((completed.get() * 100.0f) / max))), true);
-								}
-						);
+		final WorldPregenerator pregenerator = WorldPregenerator.get(world);
+
+		if (!pregenerator.stop(world)) {
+			ctx.getSource().sendError(Text.literal("No pregeneration job is running in this world"));
+			return 0;
+		}
+
+		ctx.getSource().sendFeedback(() -> Text.literal(String.format("Stopped pregenerating after %d/%d chunks", pregenerator.getGenerated(), pregenerator.getTotal())), true);
+		return Command.SINGLE_SUCCESS;
+	}
+
+	private static int generateStatus(CommandContext<ServerCommandSource> ctx) {
+		final WorldPregenerator pregenerator = WorldPregenerator.get(ctx.getSource().getWorld());
+
+		if (!pregenerator.isRunning()) {
+			ctx.getSource().sendFeedback(() -> Text.literal("No pregeneration job is running in this world"), false);
+			return Command.SINGLE_SUCCESS;
+		}
+
+		long generated = pregenerator.getGenerated();
+		long total = pregenerator.getTotal();
+		ctx.getSource().sendFeedback(() -> Text.literal(String.format("Pregenerated %d/%d chunks (%d%%, %s chunks/s)", generated, total, total == 0 ? 0 : generated * 100 / total, pregenerator.getChunksPerSecond())), false);
+		return Command.SINGLE_SUCCESS;
+	}
+
+	private static int startEnergyProfiler(CommandContext<ServerCommandSource> ctx) {
+		EnergyProfiler.start();
+		ctx.getSource().sendFeedback(() -> Text.literal("Started recording energy and tick time, use /reborncore energy stats to see the results"), true);
+		return Command.SINGLE_SUCCESS;
+	}
+
+	private static int stopEnergyProfiler(CommandContext<ServerCommandSource> ctx) {
+		if (!EnergyProfiler.isEnabled()) {
+			ctx.getSource().sendError(Text.literal("The energy profiler is not running"));
+			return 0;
+		}
+		EnergyProfiler.stop();
+		ctx.getSource().sendFeedback(() -> Text.literal(String.format("Stopped recording after %d ticks", EnergyProfiler.getSampledTicks())), true);
+		return Command.SINGLE_SUCCESS;
+	}
+
+	private static int energyStats(CommandContext<ServerCommandSource> ctx, int count) {
+		final long ticks = EnergyProfiler.getSampledTicks();
+		if (ticks == 0) {
+			ctx.getSource().sendError(Text.literal("Nothing has been recorded, start the profiler with /reborncore energy start"));
+			return 0;
+		}
+
+		final ServerCommandSource source = ctx.getSource();
+		source.sendFeedback(() -> Text.literal(String.format("Energy profile over %d ticks (%.1f s)%s", ticks, EnergyProfiler.getSampledNanos() / 1e9, EnergyProfiler.isEnabled() ? ", still recording" : "")), false);
+		EnergyProfiler.getDimensions().forEach((dimension, counters) ->
+				source.sendFeedback(() -> Text.literal(dimension.getValue() + ": " + formatCounters(counters, ticks)), false));
+
+		for (EnergyProfiler.Category category : List.of(EnergyProfiler.Category.NETWORKS, EnergyProfiler.Category.MACHINES, EnergyProfiler.Category.CHUNKS)) {
+			List<Map.Entry<EnergyProfiler.Location, EnergyProfiler.Counters>> top = EnergyProfiler.getTop(category, EnergyProfiler.Metric.TICK_NANOS, count);
+			if (top.isEmpty()) {
+				continue;
+			}
+			source.sendFeedback(() -> Text.literal("Hottest " + category.key + ":"), false);
+			for (Map.Entry<EnergyProfiler.Location, EnergyProfiler.Counters> entry : top) {
+				EnergyProfiler.Location location = entry.getKey();
+				String where = category == EnergyProfiler.Category.CHUNKS
+						? String.format("chunk [%d, %d]", ChunkPos.getPackedX(location.pos()), ChunkPos.getPackedZ(location.pos()))
+						: String.format("%s at %s", entry.getValue().getLabel(), BlockPos.fromLong(location.pos()).toShortString());
+				source.sendFeedback(() -> Text.literal(String.format("  %s %s: %s", location.dimension().getValue(), where, formatCounters(entry.getValue(), ticks))), false);
 			}
 		}
 		return Command.SINGLE_SUCCESS;
 	}
 
+	private static String formatCounters(EnergyProfiler.Counters counters, long ticks) {
+		return String.format("%.3f ms/t, +%s -%s moved %s pushed %s per tick, %d recipe lookups",
+				counters.get(EnergyProfiler.Metric.TICK_NANOS) / 1e6 / ticks,
+				PowerSystem.getLocalizedPower((double) counters.get(EnergyProfiler.Metric.GENERATED) / ticks),
+				PowerSystem.getLocalizedPower((double) counters.get(EnergyProfiler.Metric.CONSUMED) / ticks),
+				PowerSystem.getLocalizedPower((double) counters.get(EnergyProfiler.Metric.MOVED) / ticks),
+				PowerSystem.getLocalizedPower((double) counters.get(EnergyProfiler.Metric.PUSHED) / ticks),
+				counters.get(EnergyProfiler.Metric.RECIPE_LOOKUPS));
+	}
+
+	private static int exportEnergyStats(CommandContext<ServerCommandSource> ctx) {
+		final Path path = FabricLoader.getInstance().getGameDir()
+				.resolve("reborncore")
+				.resolve("energy-profile-" + DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").format(LocalDateTime.now()) + ".json");
+		try {
+			EnergyProfiler.export(path);
+		} catch (IOException e) {
+			RebornCore.LOGGER.error("Failed to export the energy profile", e);
+			ctx.getSource().sendError(Text.literal("Failed to export the energy profile: " + e.getMessage()));
+			return 0;
+		}
+		ctx.getSource().sendFeedback(() -> Text.literal("Exported the energy profile to " + path), true);
+		return Command.SINGLE_SUCCESS;
+	}
+
 	private static int flySpeed(CommandContext<ServerCommandSource> ctx, Collection<ServerPlayerEntity> players) {
 		final int speed = getInteger(ctx, "speed");
 		players.stream()
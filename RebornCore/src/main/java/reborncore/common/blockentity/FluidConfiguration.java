@@ -25,18 +25,21 @@
 package reborncore.common.blockentity;
 
 import io.netty.buffer.ByteBuf;
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiCache;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidStorage;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
 import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
 import net.fabricmc.fabric.api.transfer.v1.storage.StorageUtil;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.network.codec.PacketCodec;
 import net.minecraft.network.codec.PacketCodecs;
-import net.minecraft.util.math.BlockPos;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Direction;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import reborncore.common.util.NBTSerializable;
+import reborncore.common.util.Tank;
 
 import java.util.*;
 
@@ -56,6 +59,12 @@ public class FluidConfiguration implements NBTSerializable {
 	Map<Direction, FluidConfig> sideMap;
 	boolean input, output;
 
+	/**
+	 * Adjacent caches, used to quickly query adjacent fluid storages.
+	 */
+	@SuppressWarnings("unchecked")
+	private final BlockApiCache<Storage<FluidVariant>, Direction>[] adjacentCaches = new BlockApiCache[6];
+
 	public FluidConfiguration() {
 		sideMap = new HashMap<>();
 		Arrays.stream(Direction.values()).forEach(facing -> sideMap.put(facing, new FluidConfig(facing)));
@@ -96,30 +105,56 @@ public class FluidConfiguration implements NBTSerializable {
 		if (!input && !output) {
 			return;
 		}
-		if (machineBase.getTank() == null || machineBase.getWorld().getTime() % machineBase.slotTransferSpeed() != 0) {
+		final Tank machineTank = machineBase.getTank();
+		if (machineTank == null || machineBase.getWorld().getTime() % machineBase.slotTransferSpeed() != 0) {
 			return;
 		}
-		for (Direction facing : Direction.values()) {
-			FluidConfig fluidConfig = getSideDetail(facing);
-			if (fluidConfig == null || !fluidConfig.getIoConfig().isEnabled()) {
-				continue;
+		final long transferAmount = machineBase.fluidTransferAmount().getRawValue();
+		Transaction transaction = null;
+		try {
+			for (Direction facing : Direction.values()) {
+				FluidConfig fluidConfig = getSideDetail(facing);
+				if (fluidConfig == null || !fluidConfig.getIoConfig().isEnabled()) {
+					continue;
+				}
+
+				@Nullable
+				Storage<FluidVariant> tank = getAdjacentStorage(machineBase, facing);
+				if (tank == null) {
+					continue;
+				}
+				boolean insert = autoInput() && fluidConfig.getIoConfig().isInsert() && !machineTank.isFull();
+				boolean extract = autoOutput() && fluidConfig.getIoConfig().isExtract() && !machineTank.isEmpty();
+				if (!insert && !extract) {
+					continue;
+				}
+				// All sides share one transaction, opened only once there is something to move
+				if (transaction == null) {
+					transaction = Transaction.openOuter();
+				}
+				if (insert) {
+					StorageUtil.move(tank, machineTank, fv -> true, transferAmount, transaction);
+				}
+				if (extract) {
+					StorageUtil.move(machineTank, tank, fv -> true, transferAmount, transaction);
+				}
 			}
-
-			@Nullable
-			Storage<FluidVariant> tank = getTank(machineBase, facing);
-			if (autoInput() && fluidConfig.getIoConfig().isInsert()) {
-				StorageUtil.move(tank, machineBase.getTank(), fv -> true, machineBase.fluidTransferAmount().getRawValue(), null);
+			if (transaction != null) {
+				transaction.commit();
 			}
-			if (autoOutput() && fluidConfig.getIoConfig().isExtract()) {
-				StorageUtil.move(machineBase.getTank(), tank, fv -> true, machineBase.fluidTransferAmount().getRawValue(), null);
+		} finally {
+			if (transaction != null) {
+				transaction.close();
 			}
 		}
 	}
 
 	@Nullable
-	private Storage<FluidVariant> getTank(MachineBaseBlockEntity machine, Direction facing) {
-		BlockPos pos = machine.getPos().offset(facing);
-		return FluidStorage.SIDED.find(machine.getWorld(), pos, facing.getOpposite());
+	private Storage<FluidVariant> getAdjacentStorage(MachineBaseBlockEntity machineBase, Direction side) {
+		if (adjacentCaches[side.getId()] == null) {
+			adjacentCaches[side.getId()] = BlockApiCache.create(FluidStorage.SIDED, (ServerWorld) machineBase.getWorld(), machineBase.getPos().offset(side));
+		}
+		return adjacentCaches[side.getId()].find(side.getOpposite());
 	}
 
 	public boolean autoInput() {
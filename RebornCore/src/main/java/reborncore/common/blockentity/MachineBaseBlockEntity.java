@@ -41,6 +41,7 @@ import net.minecraft.network.packet.s2c.play.BlockEntityUpdateS2CPacket;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
+import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
@@ -78,8 +79,41 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 
 	public boolean renderMultiblock = false;
 	private final static int syncCoolDown = 20;
+	/**
+	 * Sleeping machines still check themselves at this interval, in case a change was missed.
+	 */
+	private final static int maxSleepTicks = 200;
 	private boolean markSync = false;
 	private int tickTime = 0;
+	/**
+	 * Set when the upgrades have to be applied again, the upgrade inventory tracks its own changes.
+	 */
+	private boolean upgradesDirty = true;
+	/**
+	 * A sleeping machine skips its crafter and item/fluid IO until {@link #wakeUp()} is called.
+	 */
+	private boolean sleeping = false;
+	private int sleepTicks = 0;
+	/**
+	 * Multiblock structures are revalidated at this interval even without a block change, as chunks that
+	 * are loaded or unloaded under the structure do not notify {@link MultiblockFootprints}.
+	 */
+	private final static int multiblockRecheckTicks = 200;
+	private boolean multiblockValid = false;
+	private boolean multiblockDirty = true;
+	@Nullable
+	private Direction multiblockFacing;
+	@Nullable
+	private BlockBox multiblockBounds;
+	private long multiblockCheckTime;
+
+	// Facing and active state read from the block state they were last computed for
+	@Nullable
+	private BlockState facingSource;
+	private Direction cachedFacing;
+	@Nullable
+	private BlockState activeSource;
+	private boolean cachedActive;
 
 	public static double SPEED_CAP = 0.99;
 
@@ -121,10 +155,62 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 		redstoneElements = RedstoneConfiguration.getValidElements(this);
 	}
 
+	/**
+	 * Checks the multiblock structure of the machine. The result is cached until a block inside the
+	 * structure changes, the machine is rotated or {@link #invalidateMultiblock()} is called.
+	 *
+	 * @return {@code boolean} Returns true if the structure is complete
+	 */
 	public boolean isMultiblockValid() {
-		MultiblockWriter.MultiblockVerifier verifier = new MultiblockWriter.MultiblockVerifier(getPos(), getWorld());
-		writeMultiblock(verifier.rotate(getFacing().getOpposite()));
-		return verifier.isValid();
+		if (world == null) {
+			return false;
+		}
+		Direction facing = getFacing();
+		if (multiblockDirty || facing != multiblockFacing || world.getTime() - multiblockCheckTime >= multiblockRecheckTicks) {
+			MultiblockWriter.MultiblockVerifier verifier = new MultiblockWriter.MultiblockVerifier(getPos(), world);
+			writeMultiblock(verifier.rotate(facing.getOpposite()));
+			multiblockValid = verifier.isValid();
+			multiblockDirty = false;
+			multiblockFacing = facing;
+			multiblockCheckTime = world.getTime();
+			setMultiblockBounds(verifier.getBounds());
+		}
+		return multiblockValid;
+	}
+
+	/**
+	 * Drops the cached multiblock validation result, call this when {@link #writeMultiblock(MultiblockWriter)}
+	 * would write a different structure.
+	 */
+	public void invalidateMultiblock() {
+		multiblockDirty = true;
+	}
+
+	/**
+	 * Called when a block inside the multiblock bounds of this machine changed, other than the machine itself.
+	 * Drops the cached validation result by default.
+	 *
+	 * @param pos {@link BlockPos} Position of the changed block
+	 */
+	protected void onMultiblockBlockChanged(BlockPos pos) {
+		invalidateMultiblock();
+	}
+
+	boolean isInMultiblockBounds(BlockPos pos) {
+		return multiblockBounds != null && multiblockBounds.contains(pos);
+	}
+
+	private void setMultiblockBounds(@Nullable BlockBox bounds) {
+		if (Objects.equals(bounds, multiblockBounds)) {
+			return;
+		}
+		if (multiblockBounds != null) {
+			MultiblockFootprints.unregister(this, multiblockBounds);
+		}
+		multiblockBounds = bounds;
+		if (bounds != null) {
+			MultiblockFootprints.register(this, bounds);
+		}
 	}
 
 	private void syncIfNecessary(){
@@ -179,7 +265,9 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 		if (getOptionalCrafter().isPresent()) {
 			crafter = getOptionalCrafter().get();
 		}
-		if (canBeUpgraded()) {
+		if (canBeUpgraded() && (upgradesDirty || upgradeInventory.hasChanged())) {
+			upgradesDirty = false;
+			upgradeInventory.resetHasChanged();
 			resetUpgrades();
 			for (int i = 0; i < getUpgradeSlotCount(); i++) {
 				ItemStack stack = getUpgradeInventory().getStack(i);
@@ -192,6 +280,10 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 		if (world == null || world.isClient) {
 			return;
 		}
+		if (sleeping && ++sleepTicks < maxSleepTicks) {
+			syncIfNecessary();
+			return;
+		}
 		if (crafter != null && isActive(RedstoneConfiguration.Element.RECIPE_PROCESSING)) {
 			crafter.updateEntity();
 		}
@@ -201,9 +293,69 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 		if (fluidConfiguration != null && isActive(RedstoneConfiguration.Element.FLUID_IO)) {
 			fluidConfiguration.update(this);
 		}
+		sleeping = canSleep(crafter);
+		sleepTicks = 0;
 		syncIfNecessary();
 	}
 
+	/**
+	 * Checks if the machine can park itself until something changes. While sleeping, the crafter and the
+	 * item and fluid IO are not ticked.
+	 *
+	 * @param crafter {@link RecipeCrafter} The crafter of the machine, if any
+	 * @return {@code boolean} Returns true if the machine cannot make progress without an external change
+	 */
+	protected boolean canSleep(@Nullable RecipeCrafter crafter) {
+		if (crafter == null || !crafter.isIdle()) {
+			return false;
+		}
+		if (slotConfiguration != null && slotConfiguration.hasPendingItemIO(this)) {
+			return false;
+		}
+		return fluidConfiguration == null || (!fluidConfiguration.autoInput() && !fluidConfiguration.autoOutput());
+	}
+
+	/**
+	 * Wakes the machine up after a change to its inventory, energy, neighbours or configuration.
+	 */
+	public void wakeUp() {
+		sleeping = false;
+	}
+
+	public boolean isSleeping() {
+		return sleeping;
+	}
+
+	/**
+	 * Called when a neighbour block changes, this includes redstone changes.
+	 */
+	public void onNeighborUpdate() {
+		// Some upgrades depend on the redstone configuration.
+		upgradesDirty = true;
+		if (slotConfiguration != null) {
+			slotConfiguration.onNeighborUpdate();
+		}
+		wakeUp();
+	}
+
+	@Override
+	public void markDirty() {
+		super.markDirty();
+		wakeUp();
+	}
+
+	@Override
+	public void markRemoved() {
+		setMultiblockBounds(null);
+		super.markRemoved();
+	}
+
+	@Override
+	public void cancelRemoval() {
+		super.cancelRemoval();
+		invalidateMultiblock();
+	}
+
 	public void resetUpgrades() {
 		resetPowerMultiplier();
 		resetSpeedMultiplier();
@@ -214,34 +366,61 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 	}
 
 	public int getFacingInt() {
-		Block block = world.getBlockState(pos).getBlock();
-		if (block instanceof BlockMachineBase) {
-			return ((BlockMachineBase) block).getFacing(world.getBlockState(pos)).getId();
-		}
-		return 0;
+		Direction facing = getFacingEnum();
+		return facing == null ? 0 : facing.getId();
 	}
 
 	public Direction getFacingEnum() {
-		Block block = world.getBlockState(pos).getBlock();
-		if (block instanceof BlockMachineBase) {
-			return ((BlockMachineBase) block).getFacing(world.getBlockState(pos));
+		// The chunk updates the cached state of this block entity whenever its block state changes
+		BlockState state = getCachedState();
+		if (state != facingSource) {
+			cachedFacing = readFacing(state);
+			facingSource = state;
+		}
+		return cachedFacing;
+	}
+
+	/**
+	 * Reads the facing of this machine from its block state. Override when the block stores it differently.
+	 *
+	 * @param state {@link BlockState} Current block state of this machine
+	 * @return {@link Direction} Facing of this machine
+	 */
+	protected Direction readFacing(BlockState state) {
+		if (state.getBlock() instanceof BlockMachineBase blockMachineBase) {
+			return blockMachineBase.getFacing(state);
 		}
 		return Direction.NORTH;
 	}
 
 	public void setFacing(Direction enumFacing) {
-		Block block = world.getBlockState(pos).getBlock();
-		if (block instanceof BlockMachineBase) {
-			((BlockMachineBase) block).setFacing(enumFacing, world, pos);
+		if (getCachedState().getBlock() instanceof BlockMachineBase blockMachineBase) {
+			blockMachineBase.setFacing(enumFacing, world, pos);
 		}
 	}
 
 	public boolean isActive() {
-		Block block = world.getBlockState(pos).getBlock();
-		if (block instanceof BlockMachineBase) {
-			return world.getBlockState(pos).get(BlockMachineBase.ACTIVE);
+		BlockState state = getCachedState();
+		if (state != activeSource) {
+			cachedActive = state.getBlock() instanceof BlockMachineBase && state.contains(BlockMachineBase.ACTIVE) && state.get(BlockMachineBase.ACTIVE);
+			activeSource = state;
+		}
+		return cachedActive;
+	}
+
+	/**
+	 * Sets the {@link BlockMachineBase#ACTIVE} state of this machine. The block state is only written when the value
+	 * changes.
+	 *
+	 * @param active {@code boolean} New active state
+	 */
+	public void setActive(boolean active) {
+		if (world == null || isActive() == active) {
+			return;
+		}
+		if (getCachedState().getBlock() instanceof BlockMachineBase blockMachineBase) {
+			blockMachineBase.setActive(active, world, pos);
 		}
-		return false;
 	}
 
 	public Optional<RebornInventory<?>> getOptionalInventory() {
@@ -295,6 +474,8 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 			}
 		}
 		upgradeInventory.read(tagCompound, "Upgrades", registryLookup);
+		upgradesDirty = true;
+		wakeUp();
 	}
 
 	@Override
@@ -423,7 +604,7 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 	}
 
 	public Block getBlockType(){
-		return world.getBlockState(pos).getBlock();
+		return getCachedState().getBlock();
 	}
 
 	@Override
@@ -561,6 +742,7 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 
 	public void setRedstoneConfiguration(RedstoneConfiguration redstoneConfiguration) {
 		this.redstoneConfiguration = redstoneConfiguration;
+		onNeighborUpdate();
 	}
 
 	@Override
@@ -0,0 +1,130 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.common.blockentity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of the area covered by each multiblock structure, so that cached validation results
+ * can be dropped when a block inside that area changes.
+ *
+ * <p>Footprints are indexed by the chunks their bounding box touches. Machines remove their footprint
+ * when they are removed or unloaded, so no world is kept alive by this registry.</p>
+ */
+public final class MultiblockFootprints {
+	private static final Map<World, Long2ObjectMap<List<MachineBaseBlockEntity>>> SERVER_FOOTPRINTS = new HashMap<>();
+	private static final Map<World, Long2ObjectMap<List<MachineBaseBlockEntity>>> CLIENT_FOOTPRINTS = new HashMap<>();
+
+	private MultiblockFootprints() {
+	}
+
+	private static Map<World, Long2ObjectMap<List<MachineBaseBlockEntity>>> getFootprints(World world) {
+		return world.isClient ? CLIENT_FOOTPRINTS : SERVER_FOOTPRINTS;
+	}
+
+	/**
+	 * Starts listening for block changes inside the given bounds
+	 *
+	 * @param machine {@link MachineBaseBlockEntity} The multiblock controller
+	 * @param bounds  {@link BlockBox} The area covered by the structure
+	 */
+	static void register(MachineBaseBlockEntity machine, BlockBox bounds) {
+		World world = machine.getWorld();
+		if (world == null) {
+			return;
+		}
+		Long2ObjectMap<List<MachineBaseBlockEntity>> byChunk = getFootprints(world).computeIfAbsent(world, w -> new Long2ObjectOpenHashMap<>());
+		for (int chunkX = bounds.getMinX() >> 4; chunkX <= bounds.getMaxX() >> 4; chunkX++) {
+			for (int chunkZ = bounds.getMinZ() >> 4; chunkZ <= bounds.getMaxZ() >> 4; chunkZ++) {
+				byChunk.computeIfAbsent(ChunkPos.toLong(chunkX, chunkZ), l -> new ArrayList<>(1)).add(machine);
+			}
+		}
+	}
+
+	/**
+	 * Stops listening for block changes inside the given bounds
+	 *
+	 * @param machine {@link MachineBaseBlockEntity} The multiblock controller
+	 * @param bounds  {@link BlockBox} The bounds the machine was registered with
+	 */
+	static void unregister(MachineBaseBlockEntity machine, BlockBox bounds) {
+		World world = machine.getWorld();
+		if (world == null) {
+			return;
+		}
+		Map<World, Long2ObjectMap<List<MachineBaseBlockEntity>>> footprints = getFootprints(world);
+		Long2ObjectMap<List<MachineBaseBlockEntity>> byChunk = footprints.get(world);
+		if (byChunk == null) {
+			return;
+		}
+		for (int chunkX = bounds.getMinX() >> 4; chunkX <= bounds.getMaxX() >> 4; chunkX++) {
+			for (int chunkZ = bounds.getMinZ() >> 4; chunkZ <= bounds.getMaxZ() >> 4; chunkZ++) {
+				long chunk = ChunkPos.toLong(chunkX, chunkZ);
+				List<MachineBaseBlockEntity> machines = byChunk.get(chunk);
+				if (machines != null && machines.remove(machine) && machines.isEmpty()) {
+					byChunk.remove(chunk);
+				}
+			}
+		}
+		if (byChunk.isEmpty()) {
+			footprints.remove(world);
+		}
+	}
+
+	/**
+	 * Called after a block state was changed in the world
+	 *
+	 * @param world {@link World} The world the block is in
+	 * @param pos   {@link BlockPos} The position of the changed block
+	 */
+	public static void onBlockChanged(World world, BlockPos pos) {
+		@Nullable
+		Long2ObjectMap<List<MachineBaseBlockEntity>> byChunk = getFootprints(world).get(world);
+		if (byChunk == null) {
+			return;
+		}
+		List<MachineBaseBlockEntity> machines = byChunk.get(ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4));
+		if (machines == null) {
+			return;
+		}
+		for (MachineBaseBlockEntity machine : machines) {
+			// The controller changes its own state when it turns on or off, that is not part of the structure
+			if (!machine.getPos().equals(pos) && machine.isInMultiblockBounds(pos)) {
+				machine.onMultiblockBlockChanged(pos);
+			}
+		}
+	}
+}
@@ -26,9 +26,11 @@ package reborncore.common.blockentity;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.BlockView;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.function.BiPredicate;
 
@@ -203,6 +205,8 @@ public interface MultiblockWriter {
 		private final BlockView view;
 
 		private boolean valid = true;
+		@Nullable
+		private BlockBox bounds;
 
 		public MultiblockVerifier(BlockPos relative, BlockView view) {
 			this.relative = relative;
@@ -213,10 +217,26 @@ public interface MultiblockWriter {
 			return valid;
 		}
 
+		/**
+		 * @return {@link BlockBox} The area covered by every added position, even the ones after the first failure
+		 */
+		@Nullable
+		public BlockBox getBounds() {
+			return bounds;
+		}
+
 		@Override
 		public MultiblockWriter add(int x, int y, int z, BiPredicate<BlockView, BlockPos> predicate, BlockState state) {
+			BlockPos pos = relative.add(x, y, z);
+
+			if (bounds == null) {
+				bounds = new BlockBox(pos);
+			} else {
+				bounds.encompass(pos);
+			}
+
 			if (valid) {
-				valid = predicate.test(view, relative.add(x, y, z));
+				valid = predicate.test(view, pos);
 			}
 
 			return this;
@@ -26,19 +26,25 @@ package reborncore.common.blockentity;
 
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import io.netty.buffer.ByteBuf;
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiCache;
 import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
 import net.fabricmc.fabric.api.transfer.v1.item.ItemStorage;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
 import net.fabricmc.fabric.api.transfer.v1.storage.StorageUtil;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.minecraft.inventory.Inventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.StringNbtReader;
 import net.minecraft.network.codec.PacketCodec;
 import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Direction;
 import org.apache.commons.lang3.Validate;
 import org.jetbrains.annotations.Nullable;
 import reborncore.RebornCore;
+import reborncore.common.powerSystem.EnergyProfiler;
 import reborncore.common.util.NBTSerializable;
 import reborncore.common.util.RebornInventory;
 
@@ -50,11 +56,25 @@ public class SlotConfiguration implements NBTSerializable {
 		.collect(PacketCodecs.toList())
 		.xmap(SlotConfiguration::new, SlotConfiguration::getSlotDetails);
 
+	/**
+	 * Maximum amount of transfer intervals skipped after attempts that moved nothing.
+	 */
+	private static final int MAX_SKIPPED_INTERVALS = 4;
+
 	List<SlotConfigHolder> slotDetails = new ArrayList<>();
 
 	@Nullable
 	Inventory inventory;
 
+	/**
+	 * Adjacent caches, used to quickly query adjacent item storages.
+	 */
+	@SuppressWarnings("unchecked")
+	private final BlockApiCache<Storage<ItemVariant>, Direction>[] adjacentCaches = new BlockApiCache[6];
+	private int lastChangeCount = -1;
+	private int idleAttempts = 0;
+	private int skippedIntervals = 0;
+
 	public SlotConfiguration(RebornInventory<?> inventory) {
 		this.inventory = inventory;
 
@@ -83,8 +103,77 @@ public class SlotConfiguration implements NBTSerializable {
 			}
 		}
 		if (!machineBase.getWorld().isClient && machineBase.getWorld().getTime() % machineBase.slotTransferSpeed() == 0) {
-			getSlotDetails().forEach(slotConfigHolder -> slotConfigHolder.handleItemIO(machineBase));
+			if (EnergyProfiler.isEnabled()) {
+				long start = System.nanoTime();
+				handleItemIO(machineBase);
+				EnergyProfiler.recordItemIO(machineBase, System.nanoTime() - start);
+			} else {
+				handleItemIO(machineBase);
+			}
+		}
+	}
+
+	private void handleItemIO(MachineBaseBlockEntity machineBase) {
+		RebornInventory<?> machineInventory = machineBase.getOptionalInventory().get();
+
+		// Skip a few intervals if the last attempts moved nothing, and neither the inventory nor a neighbour changed.
+		if (machineInventory.getChangeCount() == lastChangeCount && skippedIntervals < idleAttempts) {
+			skippedIntervals++;
+			return;
+		}
+		skippedIntervals = 0;
+
+		boolean moved = false;
+		InventoryStorage machineStorage = InventoryStorage.of(machineBase, null);
+		try (Transaction transaction = Transaction.openOuter()) {
+			for (SlotConfigHolder slotConfigHolder : slotDetails) {
+				moved |= slotConfigHolder.handleItemIO(machineBase, this, machineStorage, transaction);
+			}
+			transaction.commit();
+		}
+
+		lastChangeCount = machineInventory.getChangeCount();
+		idleAttempts = moved ? 0 : Math.min(idleAttempts + 1, MAX_SKIPPED_INTERVALS);
+	}
+
+	@Nullable
+	private Storage<ItemVariant> getAdjacentStorage(MachineBaseBlockEntity machineBase, Direction side) {
+		if (adjacentCaches[side.getId()] == null) {
+			adjacentCaches[side.getId()] = BlockApiCache.create(ItemStorage.SIDED, (ServerWorld) machineBase.getWorld(), machineBase.getPos().offset(side));
 		}
+		return adjacentCaches[side.getId()].find(side.getOpposite());
+	}
+
+	/**
+	 * Called when a neighbour of the machine changes, the next transfer interval will not be skipped.
+	 */
+	public void onNeighborUpdate() {
+		idleAttempts = 0;
+		skippedIntervals = 0;
+	}
+
+	/**
+	 * Checks if the automatic item IO could move items without the machine inventory changing first.
+	 *
+	 * @param machineBase {@link MachineBaseBlockEntity} The machine owning this configuration
+	 * @return {@code boolean} Returns true if any slot pulls items in, or pushes a non-empty stack out
+	 */
+	public boolean hasPendingItemIO(MachineBaseBlockEntity machineBase) {
+		for (SlotConfigHolder holder : slotDetails) {
+			if (!holder.input && !holder.output) {
+				continue;
+			}
+			for (SlotConfig config : holder.sideMap.values()) {
+				ExtractConfig ioConfig = config.getSlotIO().getIoConfig();
+				if (holder.input && ioConfig == ExtractConfig.INPUT) {
+					return true;
+				}
+				if (holder.output && ioConfig == ExtractConfig.OUTPUT && !machineBase.getStack(holder.slotID).isEmpty()) {
+					return true;
+				}
+			}
+		}
+		return false;
 	}
 
 	public SlotConfiguration(NbtCompound tagCompound) {
@@ -198,20 +287,21 @@ public class SlotConfiguration implements NBTSerializable {
 			toEdit.slotIO = config.slotIO;
 		}
 
-		private void handleItemIO(MachineBaseBlockEntity machineBase) {
+		private boolean handleItemIO(MachineBaseBlockEntity machineBase, SlotConfiguration configuration, InventoryStorage machineStorage, Transaction transaction) {
 			if (!input && !output) {
-				return;
+				return false;
 			}
-			getAllSides().stream()
-				.filter(config -> config.getSlotIO().getIoConfig() != ExtractConfig.NONE)
-				.forEach(config -> {
-					if (input && config.getSlotIO().getIoConfig() == ExtractConfig.INPUT) {
-						config.handleItemInput(machineBase);
-					}
-					if (output && config.getSlotIO().getIoConfig() == ExtractConfig.OUTPUT) {
-						config.handleItemOutput(machineBase);
-					}
-				});
+			boolean moved = false;
+			for (SlotConfig config : sideMap.values()) {
+				ExtractConfig ioConfig = config.getSlotIO().getIoConfig();
+				if (input && ioConfig == ExtractConfig.INPUT) {
+					moved |= config.handleItemInput(machineBase, configuration, machineStorage, transaction);
+				}
+				if (output && ioConfig == ExtractConfig.OUTPUT) {
+					moved |= config.handleItemOutput(machineBase, configuration, machineStorage, transaction);
+				}
+			}
+			return moved;
 		}
 
 		public boolean autoInput() {
@@ -318,36 +408,36 @@ public class SlotConfiguration implements NBTSerializable {
 			return slotID;
 		}
 
-		private void handleItemInput(MachineBaseBlockEntity machineBase) {
+		private boolean handleItemInput(MachineBaseBlockEntity machineBase, SlotConfiguration configuration, InventoryStorage machineStorage, Transaction transaction) {
 			RebornInventory<?> inventory = machineBase.getOptionalInventory().get();
 			ItemStack targetStack = inventory.getStack(slotID);
 			if (targetStack.getMaxCount() == targetStack.getCount()) {
-				return;
+				return false;
 			}
 
-			StorageUtil.move(
-					ItemStorage.SIDED.find(machineBase.getWorld(), machineBase.getPos().offset(side), side.getOpposite()),
-					InventoryStorage.of(machineBase, null).getSlot(slotID),
+			return StorageUtil.move(
+					configuration.getAdjacentStorage(machineBase, side),
+					machineStorage.getSlot(slotID),
 					iv -> true,
 					4, // Move up to 4 per tick.
-					null
-			);
+					transaction
+			) > 0;
 		}
 
-		private void handleItemOutput(MachineBaseBlockEntity machineBase) {
+		private boolean handleItemOutput(MachineBaseBlockEntity machineBase, SlotConfiguration configuration, InventoryStorage machineStorage, Transaction transaction) {
 			RebornInventory<?> inventory = machineBase.getOptionalInventory().get();
 			ItemStack sourceStack = inventory.getStack(slotID);
 			if (sourceStack.isEmpty()) {
-				return;
+				return false;
 			}
 
-			StorageUtil.move(
-					InventoryStorage.of(machineBase, null).getSlot(slotID),
-					ItemStorage.SIDED.find(machineBase.getWorld(), machineBase.getPos().offset(side), side.getOpposite()),
+			return StorageUtil.move(
+					machineStorage.getSlot(slotID),
+					configuration.getAdjacentStorage(machineBase, side),
 					iv -> true,
 					Long.MAX_VALUE,
-					null
-			);
+					transaction
+			) > 0;
 		}
 
 		@Override
@@ -96,9 +96,11 @@ public abstract class BlockMachineBase extends BaseBlockEntityProvider implement
 		if (hasCustomStates) {
 			return;
 		}
-		Direction facing = world.getBlockState(pos).get(FACING);
-		BlockState state = world.getBlockState(pos).with(ACTIVE, active).with(FACING, facing);
-		world.setBlockState(pos, state, 3);
+		BlockState state = world.getBlockState(pos);
+		if (state.get(ACTIVE) == active) {
+			return;
+		}
+		world.setBlockState(pos, state.with(ACTIVE, active), 3);
 	}
 
 	public boolean isActive(BlockState state) {
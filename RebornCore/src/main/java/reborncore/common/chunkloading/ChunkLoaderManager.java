@@ -27,6 +27,8 @@ package reborncore.common.chunkloading;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtElement;
 import net.minecraft.nbt.NbtOps;
@@ -51,9 +53,14 @@ import reborncore.common.network.clientbound.ChunkSyncPayload;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.UUID;
 
 // This does not do the actual chunk loading, just keeps track of what chunks the chunk loader has loaded
 public class ChunkLoaderManager extends PersistentState {
@@ -73,50 +80,65 @@ public class ChunkLoaderManager extends PersistentState {
 		return serverWorld.getPersistentStateManager().getOrCreate(TYPE, KEY);
 	}
 
-	private final List<LoadedChunk> loadedChunks = new ArrayList<>();
+	private final Map<Identifier, DimensionChunks> dimensions = new HashMap<>();
+	/**
+	 * Players that were sent chunks, mapped to the chunk loader they are looking at, or null for all chunk loaders.
+	 */
+	private final Map<UUID, Optional<BlockPos>> watchers = new HashMap<>();
+	private final Set<LoadedChunk> pendingAdded = new LinkedHashSet<>();
+	private final Set<LoadedChunk> pendingRemoved = new LinkedHashSet<>();
 
 	public static ChunkLoaderManager fromTag(NbtCompound tag, RegistryWrapper.WrapperLookup registryLookup) {
 		ChunkLoaderManager chunkLoaderManager = new ChunkLoaderManager();
 
-		chunkLoaderManager.loadedChunks.clear();
-
 		List<LoadedChunk> chunks = CODEC.parse(NbtOps.INSTANCE, tag.getList("loadedchunks", NbtElement.COMPOUND_TYPE))
 				.result()
 				.orElse(Collections.emptyList());
 
-		chunkLoaderManager.loadedChunks.addAll(chunks);
+		chunks.forEach(chunkLoaderManager::addLoadedChunk);
 
 		return chunkLoaderManager;
 	}
 
 	@Override
 	public NbtCompound writeNbt(NbtCompound compoundTag, RegistryWrapper.WrapperLookup registryLookup) {
-		CODEC.encodeStart(NbtOps.INSTANCE, loadedChunks)
+		CODEC.encodeStart(NbtOps.INSTANCE, getAllLoadedChunks())
 				.result()
 				.ifPresent(tag -> compoundTag.put("loadedchunks", tag));
 		return compoundTag;
 	}
 
 	public Optional<LoadedChunk> getLoadedChunk(World world, ChunkPos chunkPos, BlockPos chunkLoader){
-		return loadedChunks.stream()
-			.filter(loadedChunk -> loadedChunk.world().equals(getWorldName(world)))
-			.filter(loadedChunk -> loadedChunk.chunk().equals(chunkPos))
-			.filter(loadedChunk -> loadedChunk.chunkLoader().equals(chunkLoader))
-			.findFirst();
+		DimensionChunks dimension = dimensions.get(getWorldName(world));
+		if (dimension == null) {
+			return Optional.empty();
+		}
+		for (LoadedChunk loadedChunk : dimension.byLoader.getOrDefault(chunkLoader, Collections.emptyList())) {
+			if (loadedChunk.chunk().equals(chunkPos)) {
+				return Optional.of(loadedChunk);
+			}
+		}
+		return Optional.empty();
 	}
 
 	public Optional<LoadedChunk> getLoadedChunk(World world, ChunkPos chunkPos){
-		return loadedChunks.stream()
-			.filter(loadedChunk -> loadedChunk.world().equals(getWorldName(world)))
-			.filter(loadedChunk -> loadedChunk.chunk().equals(chunkPos))
-			.findFirst();
+		DimensionChunks dimension = dimensions.get(getWorldName(world));
+		if (dimension == null) {
+			return Optional.empty();
+		}
+		List<LoadedChunk> loadedChunks = dimension.byChunk.get(chunkPos.toLong());
+		if (loadedChunks == null || loadedChunks.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(loadedChunks.get(0));
 	}
 
 	public List<LoadedChunk> getLoadedChunks(World world, BlockPos chunkLoader){
-		return loadedChunks.stream()
-			.filter(loadedChunk -> loadedChunk.world().equals(getWorldName(world)))
-			.filter(loadedChunk -> loadedChunk.chunkLoader().equals(chunkLoader))
-			.collect(Collectors.toList());
+		DimensionChunks dimension = dimensions.get(getWorldName(world));
+		if (dimension == null) {
+			return new ArrayList<>();
+		}
+		return new ArrayList<>(dimension.byLoader.getOrDefault(chunkLoader, Collections.emptyList()));
 	}
 
 	public boolean isChunkLoaded(World world, ChunkPos chunkPos, BlockPos chunkLoader){
@@ -124,16 +146,22 @@ public class ChunkLoaderManager extends PersistentState {
 	}
 
 	public boolean isChunkLoaded(World world, ChunkPos chunkPos){
-		return getLoadedChunk(world, chunkPos).isPresent();
+		DimensionChunks dimension = dimensions.get(getWorldName(world));
+		return dimension != null && dimension.byChunk.containsKey(chunkPos.toLong());
 	}
 
 
 	public void loadChunk(World world, ChunkPos chunkPos, BlockPos chunkLoader, String player){
 		Validate.isTrue(!isChunkLoaded(world, chunkPos, chunkLoader), "chunk is already loaded");
 		LoadedChunk loadedChunk = new LoadedChunk(chunkPos, getWorldName(world), player, chunkLoader);
-		loadedChunks.add(loadedChunk);
 
-		loadChunk((ServerWorld) world, loadedChunk);
+		// Only the first chunk loader of a chunk needs to add the ticket.
+		if (addLoadedChunk(loadedChunk) == 1) {
+			loadChunk((ServerWorld) world, loadedChunk);
+		}
+		if (!pendingRemoved.remove(loadedChunk)) {
+			pendingAdded.add(loadedChunk);
+		}
 
 		markDirty();
 	}
@@ -148,23 +176,76 @@ public class ChunkLoaderManager extends PersistentState {
 
 		LoadedChunk loadedChunk = optionalLoadedChunk.get();
 
-		loadedChunks.remove(loadedChunk);
-
-		if(!isChunkLoaded(world, loadedChunk.chunk())){
+		// Only remove the ticket once no chunk loader references the chunk anymore.
+		if (removeLoadedChunk(loadedChunk) == 0) {
 			final ServerChunkManager serverChunkManager = ((ServerWorld) world).getChunkManager();
 			serverChunkManager.removeTicket(ChunkLoaderManager.CHUNK_LOADER, loadedChunk.chunk(), RADIUS, loadedChunk.chunk());
 		}
+		if (!pendingAdded.remove(loadedChunk)) {
+			pendingRemoved.add(loadedChunk);
+		}
 		markDirty();
 	}
 
+	/**
+	 * @return the amount of chunk loaders referencing the chunk after adding it
+	 */
+	private int addLoadedChunk(LoadedChunk loadedChunk) {
+		DimensionChunks dimension = dimensions.computeIfAbsent(loadedChunk.world(), id -> new DimensionChunks());
+		dimension.byLoader.computeIfAbsent(loadedChunk.chunkLoader(), pos -> new ArrayList<>()).add(loadedChunk);
+		List<LoadedChunk> references = dimension.byChunk.computeIfAbsent(loadedChunk.chunk().toLong(), pos -> new ArrayList<>());
+		references.add(loadedChunk);
+		return references.size();
+	}
+
+	/**
+	 * @return the amount of chunk loaders still referencing the chunk after removing it
+	 */
+	private int removeLoadedChunk(LoadedChunk loadedChunk) {
+		DimensionChunks dimension = dimensions.get(loadedChunk.world());
+
+		List<LoadedChunk> loaderChunks = dimension.byLoader.get(loadedChunk.chunkLoader());
+		loaderChunks.remove(loadedChunk);
+		if (loaderChunks.isEmpty()) {
+			dimension.byLoader.remove(loadedChunk.chunkLoader());
+		}
+
+		long chunkKey = loadedChunk.chunk().toLong();
+		List<LoadedChunk> references = dimension.byChunk.get(chunkKey);
+		references.remove(loadedChunk);
+		if (references.isEmpty()) {
+			dimension.byChunk.remove(chunkKey);
+		}
+		if (dimension.byLoader.isEmpty()) {
+			dimensions.remove(loadedChunk.world());
+		}
+		return references.size();
+	}
+
+	private List<LoadedChunk> getAllLoadedChunks() {
+		List<LoadedChunk> loadedChunks = new ArrayList<>();
+		for (DimensionChunks dimension : dimensions.values()) {
+			dimension.byLoader.values().forEach(loadedChunks::addAll);
+		}
+		return loadedChunks;
+	}
+
 	public void onServerWorldLoad(ServerWorld world) {
-		loadedChunks.forEach(loadedChunk -> loadChunk(world, loadedChunk));
+		DimensionChunks dimension = dimensions.get(getWorldName(world));
+		if (dimension == null) {
+			return;
+		}
+		// One ticket per chunk is enough, no matter how many chunk loaders reference it.
+		dimension.byChunk.values().forEach(references -> loadChunk(world, references.get(0)));
 	}
 
 	public void onServerWorldTick(ServerWorld world) {
-		if (!loadedChunks.isEmpty()) {
+		if (!dimensions.isEmpty()) {
 			world.resetIdleTimeout();
 		}
+		if (!pendingAdded.isEmpty() || !pendingRemoved.isEmpty()) {
+			flushChangesToClients(world);
+		}
 	}
 
 	public static Identifier getWorldName(World world){
@@ -176,19 +257,62 @@ public class ChunkLoaderManager extends PersistentState {
 	}
 
 	public void syncChunkLoaderToClient(ServerPlayerEntity serverPlayerEntity, BlockPos chunkLoader){
-		syncToClient(serverPlayerEntity, loadedChunks.stream().filter(loadedChunk -> loadedChunk.chunkLoader().equals(chunkLoader)).collect(Collectors.toList()));
+		watchers.put(serverPlayerEntity.getUuid(), Optional.of(chunkLoader));
+		sendToClient(serverPlayerEntity, ChunkSyncPayload.replace(getLoadedChunks(serverPlayerEntity.getWorld(), chunkLoader)));
 	}
 
 	public void syncAllToClient(ServerPlayerEntity serverPlayerEntity) {
-		syncToClient(serverPlayerEntity, loadedChunks);
+		watchers.put(serverPlayerEntity.getUuid(), Optional.empty());
+		sendToClient(serverPlayerEntity, ChunkSyncPayload.replace(getAllLoadedChunks()));
 	}
 
 	public void clearClient(ServerPlayerEntity serverPlayerEntity) {
-		syncToClient(serverPlayerEntity, Collections.emptyList());
+		watchers.remove(serverPlayerEntity.getUuid());
+		sendToClient(serverPlayerEntity, ChunkSyncPayload.replace(Collections.emptyList()));
 	}
 
 	public void syncToClient(ServerPlayerEntity serverPlayerEntity, List<LoadedChunk> chunks) {
-		NetworkManager.sendToPlayer(new ChunkSyncPayload(chunks), serverPlayerEntity);
+		sendToClient(serverPlayerEntity, ChunkSyncPayload.replace(chunks));
+	}
+
+	private void sendToClient(ServerPlayerEntity serverPlayerEntity, ChunkSyncPayload payload) {
+		NetworkManager.sendToPlayer(payload, serverPlayerEntity);
+	}
+
+	/**
+	 * Sends the chunks that were added or removed since the last tick to the players that are watching them.
+	 */
+	private void flushChangesToClients(ServerWorld world) {
+		Iterator<Map.Entry<UUID, Optional<BlockPos>>> iterator = watchers.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<UUID, Optional<BlockPos>> watcher = iterator.next();
+			ServerPlayerEntity player = world.getServer().getPlayerManager().getPlayer(watcher.getKey());
+			if (player == null) {
+				iterator.remove();
+				continue;
+			}
+
+			List<LoadedChunk> added = filterForWatcher(pendingAdded, watcher.getValue());
+			List<LoadedChunk> removed = filterForWatcher(pendingRemoved, watcher.getValue());
+			if (!added.isEmpty() || !removed.isEmpty()) {
+				sendToClient(player, ChunkSyncPayload.update(added, removed));
+			}
+		}
+		pendingAdded.clear();
+		pendingRemoved.clear();
+	}
+
+	private static List<LoadedChunk> filterForWatcher(Set<LoadedChunk> chunks, Optional<BlockPos> chunkLoader) {
+		if (chunkLoader.isEmpty()) {
+			return new ArrayList<>(chunks);
+		}
+		List<LoadedChunk> filtered = new ArrayList<>();
+		for (LoadedChunk loadedChunk : chunks) {
+			if (loadedChunk.chunkLoader().equals(chunkLoader.get())) {
+				filtered.add(loadedChunk);
+			}
+		}
+		return filtered;
 	}
 
 	private void loadChunk(ServerWorld world, LoadedChunk loadedChunk) {
@@ -196,6 +320,17 @@ public class ChunkLoaderManager extends PersistentState {
 		world.getChunkManager().addTicket(ChunkLoaderManager.CHUNK_LOADER, chunkPos, RADIUS, chunkPos);
 	}
 
+	/**
+	 * Indexes of the loaded chunks of a single dimension.
+	 */
+	private static class DimensionChunks {
+		/**
+		 * Loaded chunks by packed {@link ChunkPos}, the list size is the amount of chunk loaders referencing the chunk.
+		 */
+		private final Long2ObjectMap<List<LoadedChunk>> byChunk = new Long2ObjectOpenHashMap<>();
+		private final Map<BlockPos, List<LoadedChunk>> byLoader = new HashMap<>();
+	}
+
 	public record LoadedChunk(ChunkPos chunk, Identifier world, String player, BlockPos chunkLoader) {
 		public static Codec<ChunkPos> CHUNK_POS_CODEC = RecordCodecBuilder.create(instance ->
 			instance.group(
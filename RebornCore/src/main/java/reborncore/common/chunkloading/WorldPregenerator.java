@@ -0,0 +1,269 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.common.chunkloading;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.server.world.ServerChunkManager;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.PersistentState;
+import net.minecraft.world.World;
+import reborncore.RebornCore;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+
+/**
+ * Pregenerates a square of chunks around the world origin.
+ *
+ * <p>Chunks are requested in a spiral by adding a ticket on the server thread, with at most
+ * {@link #MAX_IN_FLIGHT} outstanding at once. As soon as a chunk reaches {@code FULL} its ticket
+ * is removed again so the chunk manager can save and unload it. The spiral index is persisted with
+ * the world so an interrupted job resumes where it left off.
+ */
+public class WorldPregenerator extends PersistentState {
+	public static final PersistentState.Type<WorldPregenerator> TYPE = new Type<>(WorldPregenerator::new, WorldPregenerator::fromTag, null);
+
+	private static final ChunkTicketType<ChunkPos> PREGENERATE = ChunkTicketType.create("reborncore:pregenerate", Comparator.comparingLong(ChunkPos::toLong));
+	private static final String KEY = "reborncore_pregenerator";
+	private static final int MAX_IN_FLIGHT = 32;
+	private static final long REPORT_INTERVAL_MS = 10_000;
+
+	private boolean running;
+	private int size;
+	/**
+	 * Every spiral index below this has been generated, this is what gets persisted.
+	 */
+	private long resumeIndex;
+	private long generated;
+
+	// Runtime state, rebuilt from resumeIndex after a restart
+	private final Deque<Request> inFlight = new ArrayDeque<>();
+	private long nextIndex = -1;
+	private long lastReportTime;
+	private long lastReportGenerated;
+
+	public WorldPregenerator() {
+	}
+
+	public static WorldPregenerator get(World world) {
+		ServerWorld serverWorld = (ServerWorld) world;
+		return serverWorld.getPersistentStateManager().getOrCreate(TYPE, KEY);
+	}
+
+	public static WorldPregenerator fromTag(NbtCompound tag, RegistryWrapper.WrapperLookup registryLookup) {
+		WorldPregenerator pregenerator = new WorldPregenerator();
+		pregenerator.running = tag.getBoolean("running");
+		pregenerator.size = tag.getInt("size");
+		pregenerator.resumeIndex = tag.getLong("resumeIndex");
+		pregenerator.generated = tag.getLong("generated");
+		return pregenerator;
+	}
+
+	@Override
+	public NbtCompound writeNbt(NbtCompound compoundTag, RegistryWrapper.WrapperLookup registryLookup) {
+		compoundTag.putBoolean("running", running);
+		compoundTag.putInt("size", size);
+		compoundTag.putLong("resumeIndex", resumeIndex);
+		compoundTag.putLong("generated", generated);
+		return compoundTag;
+	}
+
+	/**
+	 * Starts a new job covering {@code size * size} chunks centered on the world origin.
+	 *
+	 * @return {@code false} if a job is already running in this world
+	 */
+	public boolean start(int size) {
+		if (running) {
+			return false;
+		}
+		this.running = true;
+		this.size = size;
+		this.resumeIndex = 0;
+		this.generated = 0;
+		this.nextIndex = -1;
+		markDirty();
+		return true;
+	}
+
+	/**
+	 * Stops the running job and releases every outstanding ticket.
+	 *
+	 * @return {@code false} if no job was running
+	 */
+	public boolean stop(ServerWorld world) {
+		if (!running) {
+			return false;
+		}
+		releaseAll(world.getChunkManager());
+		running = false;
+		markDirty();
+		return true;
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
+	public long getGenerated() {
+		return generated;
+	}
+
+	public long getTotal() {
+		long side = 2L * (size / 2);
+		return side * side;
+	}
+
+	public void onServerWorldTick(ServerWorld world) {
+		if (!running) {
+			return;
+		}
+		ServerChunkManager chunkManager = world.getChunkManager();
+
+		if (nextIndex < 0) {
+			// Fresh start or resumed after a restart, anything that was in flight is requested again
+			nextIndex = resumeIndex;
+			lastReportTime = System.currentTimeMillis();
+			lastReportGenerated = generated;
+		}
+
+		for (Request request : inFlight) {
+			// isChunkLoaded only checks the ticket level, the world chunk exists once generation finished
+			if (!request.done && chunkManager.getWorldChunk(request.pos.x, request.pos.z) != null) {
+				chunkManager.removeTicket(PREGENERATE, request.pos, 0, request.pos);
+				request.done = true;
+				generated++;
+			}
+		}
+
+		while (!inFlight.isEmpty() && inFlight.peekFirst().done) {
+			inFlight.removeFirst();
+		}
+		long resume = inFlight.isEmpty() ? nextIndex : inFlight.peekFirst().index;
+		if (resume != resumeIndex) {
+			resumeIndex = resume;
+			markDirty();
+		}
+
+		final int half = size / 2;
+		final long spiralLength = (2L * half + 1) * (2L * half + 1);
+		while (inFlight.size() < MAX_IN_FLIGHT && nextIndex < spiralLength) {
+			long index = nextIndex++;
+			ChunkPos pos = spiral(index);
+			// The spiral covers -half..half, the requested square is -half..half-1
+			if (pos.x >= half || pos.z >= half) {
+				continue;
+			}
+			chunkManager.addTicket(PREGENERATE, pos, 0, pos);
+			inFlight.addLast(new Request(index, pos));
+		}
+
+		if (inFlight.isEmpty()) {
+			running = false;
+			resumeIndex = nextIndex;
+			markDirty();
+			RebornCore.LOGGER.info("Finished pregenerating {} chunks in {}", generated, world.getRegistryKey().getValue());
+			world.getServer().getCommandSource().sendFeedback(() -> Text.literal(String.format("Finished pregenerating %d chunks in %s", generated, world.getRegistryKey().getValue())), true);
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		if (now - lastReportTime >= REPORT_INTERVAL_MS) {
+			RebornCore.LOGGER.info("Pregenerating {}: {}/{} chunks ({} chunks/s)", world.getRegistryKey().getValue(), generated, getTotal(), getChunksPerSecond(now));
+			lastReportTime = now;
+			lastReportGenerated = generated;
+		}
+	}
+
+	public void onServerWorldUnload() {
+		// Tickets die with the world, the persisted resumeIndex re-requests anything still pending
+		inFlight.clear();
+		nextIndex = -1;
+	}
+
+	public String getChunksPerSecond() {
+		return getChunksPerSecond(System.currentTimeMillis());
+	}
+
+	private String getChunksPerSecond(long now) {
+		long elapsed = Math.max(1, now - lastReportTime);
+		return String.format("%.1f", (generated - lastReportGenerated) * 1000.0 / elapsed);
+	}
+
+	private void releaseAll(ServerChunkManager chunkManager) {
+		for (Request request : inFlight) {
+			if (!request.done) {
+				chunkManager.removeTicket(PREGENERATE, request.pos, 0, request.pos);
+			}
+		}
+		inFlight.clear();
+		nextIndex = -1;
+	}
+
+	/**
+	 * Maps an index onto a square spiral around the origin, so progress can be stored as a single number.
+	 */
+	static ChunkPos spiral(long index) {
+		long p = index + 1;
+		long k = (long) Math.ceil((Math.sqrt(p) - 1) / 2);
+		// Correct for floating point error on large indices
+		while ((2 * k - 1) * (2 * k - 1) >= p && k > 0) {
+			k--;
+		}
+		while ((2 * k + 1) * (2 * k + 1) < p) {
+			k++;
+		}
+		long t = 2 * k;
+		long m = (t + 1) * (t + 1);
+		if (p >= m - t) {
+			return new ChunkPos((int) (k - (m - p)), (int) -k);
+		}
+		m -= t;
+		if (p >= m - t) {
+			return new ChunkPos((int) -k, (int) (-k + (m - p)));
+		}
+		m -= t;
+		if (p >= m - t) {
+			return new ChunkPos((int) (-k + (m - p)), (int) k);
+		}
+		return new ChunkPos((int) k, (int) (k - (m - p - t)));
+	}
+
+	private static final class Request {
+		private final long index;
+		private final ChunkPos pos;
+		private boolean done;
+
+		private Request(long index, ChunkPos pos) {
+			this.index = index;
+			this.pos = pos;
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.common.crafting;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.RecipeEntry;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lookup table from an input item to the recipes of a single recipe type that might use it.
+ * <p>
+ * Tag ingredients are expanded to the items they currently contain, so the index has to be rebuilt when the recipes
+ * or tags are reloaded. Use {@link RecipeUtils#getRecipeIndex} to get an index that is kept up to date.
+ *
+ * @param <T> the recipe class
+ */
+public final class RecipeIndex<T extends RebornRecipe> {
+	private final Collection<RecipeEntry<T>> source;
+	private final List<T> recipes = new ArrayList<>();
+	private final List<RecipeEntry<T>> entries = new ArrayList<>();
+	private final Map<Identifier, RecipeEntry<T>> byId = new HashMap<>();
+	private final Map<Item, List<T>> byItem = new IdentityHashMap<>();
+	/**
+	 * Recipes without item ingredients, they are candidates for any input.
+	 */
+	private final List<T> unindexed = new ArrayList<>();
+	/**
+	 * Position of each recipe in the recipe manager, used to keep the lookup order stable.
+	 */
+	private final Reference2IntMap<T> ordinals = new Reference2IntOpenHashMap<>();
+
+	RecipeIndex(Collection<RecipeEntry<T>> source) {
+		this.source = source;
+
+		for (RecipeEntry<T> entry : source) {
+			T recipe = entry.value();
+			ordinals.put(recipe, recipes.size());
+			recipes.add(recipe);
+			entries.add(entry);
+			byId.put(entry.id(), entry);
+
+			boolean indexed = false;
+			for (SizedIngredient ingredient : recipe.ingredients()) {
+				for (ItemStack stack : ingredient.ingredient().getMatchingStacks()) {
+					List<T> list = byItem.computeIfAbsent(stack.getItem(), item -> new ArrayList<>());
+					// An ingredient can list the same item more than once, recipes are always appended in order.
+					if (list.isEmpty() || list.get(list.size() - 1) != recipe) {
+						list.add(recipe);
+					}
+					indexed = true;
+				}
+			}
+
+			if (!indexed) {
+				unindexed.add(recipe);
+			}
+		}
+	}
+
+	/**
+	 * @param source the current recipes of this type in the recipe manager
+	 * @return {@code true} if this index was built from these recipes
+	 */
+	boolean isFor(Collection<RecipeEntry<T>> source) {
+		return this.source == source;
+	}
+
+	public List<T> getRecipes() {
+		return recipes;
+	}
+
+	/**
+	 * @param id the recipe id
+	 * @return the recipe entry with this id, or {@code null} if there is none
+	 */
+	@Nullable
+	public RecipeEntry<T> getEntry(Identifier id) {
+		return byId.get(id);
+	}
+
+	/**
+	 * @param recipe a recipe from this index
+	 * @return the recipe entry holding the recipe, or {@code null} if it is not part of this index
+	 */
+	@Nullable
+	public RecipeEntry<T> getEntry(T recipe) {
+		int ordinal = ordinals.getOrDefault(recipe, -1);
+		return ordinal < 0 ? null : entries.get(ordinal);
+	}
+
+	/**
+	 * @param item the item to look up
+	 * @return the recipes that have at least one ingredient accepting the item
+	 */
+	public List<T> getRecipes(Item item) {
+		return byItem.getOrDefault(item, List.of());
+	}
+
+	/**
+	 * Gathers the recipes that could be crafted from the given slots, in recipe manager order.
+	 * The ingredients of the returned recipes still need to be tested.
+	 *
+	 * @param inventory the inventory holding the inputs
+	 * @param slots     the input slots
+	 * @return the candidate recipes
+	 */
+	public List<T> getCandidates(Inventory inventory, int[] slots) {
+		List<T> single = null;
+		List<T> merged = null;
+
+		for (int slot : slots) {
+			ItemStack stack = inventory.getStack(slot);
+			if (stack.isEmpty()) {
+				continue;
+			}
+
+			List<T> list = byItem.get(stack.getItem());
+			if (list == null || list == single) {
+				continue;
+			}
+
+			if (single == null && merged == null) {
+				single = list;
+				continue;
+			}
+
+			if (merged == null) {
+				merged = new ArrayList<>(single);
+			}
+			for (T recipe : list) {
+				if (!merged.contains(recipe)) {
+					merged.add(recipe);
+				}
+			}
+		}
+
+		if (merged == null && unindexed.isEmpty()) {
+			return single == null ? List.of() : single;
+		}
+
+		if (merged == null) {
+			merged = single == null ? new ArrayList<>() : new ArrayList<>(single);
+		}
+		merged.addAll(unindexed);
+		merged.sort(Comparator.comparingInt(ordinals::getInt));
+		return merged;
+	}
+
+	/**
+	 * @param stack the stack to test
+	 * @return {@code true} if any recipe has an ingredient accepting the stack
+	 */
+	public boolean isIngredient(ItemStack stack) {
+		for (T recipe : getRecipes(stack.getItem())) {
+			for (SizedIngredient ingredient : recipe.ingredients()) {
+				if (ingredient.test(stack)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
@@ -34,11 +34,18 @@ import net.minecraft.util.Identifier;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 
 public class RecipeUtils {
+	// Client and server have their own recipe managers, and only touch their own map.
+	private static final Map<RecipeType<?>, RecipeIndex<?>> SERVER_INDEXES = new HashMap<>();
+	private static final Map<RecipeType<?>, RecipeIndex<?>> CLIENT_INDEXES = new HashMap<>();
+
 	public static <T extends RebornRecipe> List<T> getRecipes(World world, RecipeType<T> type) {
 		return streamRecipeEntries(world, type).map(RecipeEntry::value).toList();
 	}
@@ -51,6 +58,27 @@ public class RecipeUtils {
 		return world.getRecipeManager().getAllOfType(type).stream();
 	}
 
+	/**
+	 * Returns the item index of a recipe type. The index is rebuilt when the recipes of the world are reloaded.
+	 *
+	 * @param world the world to get the recipes from
+	 * @param type the recipe type
+	 * @return the {@link RecipeIndex} for the current recipes
+	 */
+	public static <T extends RebornRecipe> RecipeIndex<T> getRecipeIndex(World world, RecipeType<T> type) {
+		Map<RecipeType<?>, RecipeIndex<?>> indexes = world.isClient ? CLIENT_INDEXES : SERVER_INDEXES;
+		// The recipe manager replaces its recipe collections on reload.
+		Collection<RecipeEntry<T>> source = world.getRecipeManager().getAllOfType(type);
+
+		//noinspection unchecked
+		RecipeIndex<T> index = (RecipeIndex<T>) indexes.get(type);
+		if (index == null || !index.isFor(source)) {
+			index = new RecipeIndex<>(source);
+			indexes.put(type, index);
+		}
+		return index;
+	}
+
 	/**
 	 * Adds the following toast/recipe defaults to an advancement builder:
 	 * <ul>
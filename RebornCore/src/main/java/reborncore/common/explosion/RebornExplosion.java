@@ -24,25 +24,46 @@
 
 package reborncore.common.explosion;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.Heightmap;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import net.minecraft.world.chunk.light.LightingProvider;
 import net.minecraft.world.explosion.Explosion;
+import net.minecraft.world.poi.PointOfInterestTypes;
 import org.apache.commons.lang3.time.StopWatch;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import reborncore.RebornCore;
+import reborncore.common.blockentity.MultiblockFootprints;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Created by modmuss50 on 12/03/2016.
  */
 public class RebornExplosion extends Explosion {
+	/**
+	 * Used when no tick time is set, in milliseconds
+	 */
+	public static final int DEFAULT_TICK_TIME = 10;
+	private static final Int2ObjectMap<int[]> SPHERES = new Int2ObjectOpenHashMap<>();
+	private static final Map<World, List<RebornExplosion>> SCHEDULED = new HashMap<>();
+
 	final BlockPos center;
 	final World world;
 	final int radius;
@@ -50,6 +71,15 @@ public class RebornExplosion extends Explosion {
 	@Nullable
 	LivingEntity livingBase;
 
+	// Blocks up to this distance from the center are removed
+	private final int blastRadius;
+	private final int[] sphere;
+	private final int minSectionX, minSectionY, minSectionZ;
+	private final int sectionsX, sectionsY, sectionsZ;
+	private int nextSection = 0;
+	private long tickTimeNanos = DEFAULT_TICK_TIME * 1_000_000L;
+	private final StopWatch watch = new StopWatch();
+
 	public RebornExplosion(
 		@NotNull
 			BlockPos center,
@@ -60,6 +90,21 @@ public class RebornExplosion extends Explosion {
 		this.center = center;
 		this.world = world;
 		this.radius = radius;
+		this.blastRadius = radius - 2;
+		this.sphere = getSphere(radius);
+
+		if (blastRadius < 0) {
+			minSectionX = minSectionY = minSectionZ = 0;
+			sectionsX = sectionsY = sectionsZ = 0;
+		} else {
+			minSectionX = ChunkSectionPos.getSectionCoord(center.getX() - blastRadius);
+			minSectionZ = ChunkSectionPos.getSectionCoord(center.getZ() - blastRadius);
+			minSectionY = Math.max(world.getBottomSectionCoord(), ChunkSectionPos.getSectionCoord(center.getY() - blastRadius));
+			int maxSectionY = Math.min(world.getTopSectionCoord() - 1, ChunkSectionPos.getSectionCoord(center.getY() + blastRadius));
+			sectionsX = ChunkSectionPos.getSectionCoord(center.getX() + blastRadius) - minSectionX + 1;
+			sectionsZ = ChunkSectionPos.getSectionCoord(center.getZ() + blastRadius) - minSectionZ + 1;
+			sectionsY = Math.max(0, maxSectionY - minSectionY + 1);
+		}
 	}
 
 	public void setLivingBase(
@@ -74,25 +119,191 @@ public class RebornExplosion extends Explosion {
 		return livingBase;
 	}
 
+	/**
+	 * Sets how long a scheduled explosion may run each tick
+	 *
+	 * @param millis {@code int} Time in milliseconds
+	 */
+	public void setTickTime(int millis) {
+		this.tickTimeNanos = Math.max(1, millis) * 1_000_000L;
+	}
+
+	/**
+	 * Removes all blocks at once
+	 */
 	public void applyExplosion() {
-		StopWatch watch = new StopWatch();
 		watch.start();
-		for (int tx = -radius; tx < radius + 1; tx++) {
-			for (int ty = -radius; ty < radius + 1; ty++) {
-				for (int tz = -radius; tz < radius + 1; tz++) {
-					if (Math.sqrt(Math.pow(tx, 2) + Math.pow(ty, 2) + Math.pow(tz, 2)) <= radius - 2) {
-						BlockPos pos = center.add(tx, ty, tz);
-						BlockState state = world.getBlockState(pos);
-						Block block = state.getBlock();
-						if (block != Blocks.BEDROCK && !state.isAir()) {
-							block.onDestroyedByExplosion(world, pos, this);
-							world.setBlockState(pos, Blocks.AIR.getDefaultState(), 3);
-						}
+		applySections(Long.MAX_VALUE);
+		finish();
+	}
+
+	/**
+	 * Spreads the explosion over the next ticks, each tick it runs for at most the set tick time
+	 */
+	public void schedule() {
+		watch.start();
+		SCHEDULED.computeIfAbsent(world, w -> new ArrayList<>()).add(this);
+	}
+
+	public static void tickScheduled(World world) {
+		List<RebornExplosion> explosions = SCHEDULED.get(world);
+		if (explosions == null) {
+			return;
+		}
+		Iterator<RebornExplosion> iterator = explosions.iterator();
+		while (iterator.hasNext()) {
+			RebornExplosion explosion = iterator.next();
+			if (explosion.applySections(System.nanoTime() + explosion.tickTimeNanos)) {
+				explosion.finish();
+				iterator.remove();
+			}
+		}
+		if (explosions.isEmpty()) {
+			SCHEDULED.remove(world);
+		}
+	}
+
+	public static void onWorldUnload(World world) {
+		SCHEDULED.remove(world);
+	}
+
+	private void finish() {
+		watch.stop();
+		RebornCore.LOGGER.info("The explosion took" + watch + " to explode");
+	}
+
+	/**
+	 * Clears chunk sections until the deadline has passed, at least one section is cleared per call
+	 *
+	 * @param deadline {@code long} The {@link System#nanoTime()} to stop at
+	 * @return {@code boolean} Returns true when every section has been cleared
+	 */
+	private boolean applySections(long deadline) {
+		int sectionCount = sectionsX * sectionsY * sectionsZ;
+		while (nextSection < sectionCount) {
+			int index = nextSection++;
+			applySection(minSectionX + index % sectionsX, minSectionY + index / sectionsX % sectionsY, minSectionZ + index / (sectionsX * sectionsY));
+			if (System.nanoTime() >= deadline) {
+				break;
+			}
+		}
+		return nextSection >= sectionCount;
+	}
+
+	private void applySection(int sectionX, int sectionY, int sectionZ) {
+		WorldChunk chunk = world.getChunk(sectionX, sectionZ);
+		ChunkSection section = chunk.getSection(world.sectionCoordToIndex(sectionY));
+		if (section.isEmpty()) {
+			return;
+		}
+
+		// Blocks are changed in the section directly. The client gets one update per section from the
+		// chunk holder, and lighting is only queued. Neighbours are updated on the surface of the sphere only.
+		@Nullable
+		ServerWorld serverWorld = world instanceof ServerWorld ? (ServerWorld) world : null;
+		LightingProvider lightingProvider = world.getChunkManager().getLightingProvider();
+		BlockState air = Blocks.AIR.getDefaultState();
+		BlockPos.Mutable pos = new BlockPos.Mutable();
+		LongArrayList surface = new LongArrayList();
+		boolean changed = false;
+
+		int minX = ChunkSectionPos.getBlockCoord(sectionX);
+		int minY = ChunkSectionPos.getBlockCoord(sectionY);
+		int minZ = ChunkSectionPos.getBlockCoord(sectionZ);
+		for (int y = minY; y < minY + 16; y++) {
+			int dy = y - center.getY();
+			for (int x = minX; x < minX + 16; x++) {
+				int dx = x - center.getX();
+				int halfWidth = getHalfWidth(dx, dy);
+				if (halfWidth < 0) {
+					continue;
+				}
+				int maxZ = Math.min(minZ + 15, center.getZ() + halfWidth);
+				for (int z = Math.max(minZ, center.getZ() - halfWidth); z <= maxZ; z++) {
+					BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+					if (state.isAir() || state.isOf(Blocks.BEDROCK)) {
+						continue;
+					}
+					pos.set(x, y, z);
+					state.getBlock().onDestroyedByExplosion(world, pos, this);
+
+					// Block entities and points of interest need the full block change
+					if (serverWorld == null || state.hasBlockEntity() || PointOfInterestTypes.getTypeForState(state).isPresent()) {
+						world.setBlockState(pos.toImmutable(), air, Block.NOTIFY_ALL);
+						continue;
 					}
+
+					section.setBlockState(x & 15, y & 15, z & 15, air);
+					for (Map.Entry<Heightmap.Type, Heightmap> heightmap : chunk.getHeightmaps()) {
+						heightmap.getValue().trackUpdate(x & 15, y, z & 15, air);
+					}
+					serverWorld.getChunkManager().markForUpdate(pos);
+					lightingProvider.checkBlock(pos);
+					MultiblockFootprints.onBlockChanged(world, pos);
+					if (isOnSurface(dx, dy, z - center.getZ())) {
+						surface.add(pos.asLong());
+					}
+					changed = true;
 				}
 			}
 		}
-		RebornCore.LOGGER.info("The explosion took" + watch + " to explode");
+
+		if (changed) {
+			lightingProvider.setSectionStatus(ChunkSectionPos.from(sectionX, sectionY, sectionZ), section.isEmpty());
+			chunk.setNeedsSaving(true);
+			for (int i = 0; i < surface.size(); i++) {
+				world.updateNeighbors(BlockPos.fromLong(surface.getLong(i)), Blocks.AIR);
+			}
+		}
+	}
+
+	private int getHalfWidth(int dx, int dy) {
+		if (dx < -radius || dx > radius || dy < -radius || dy > radius) {
+			return -1;
+		}
+		return sphere[(dx + radius) * (2 * radius + 1) + dy + radius];
+	}
+
+	private boolean isInside(int dx, int dy, int dz) {
+		return Math.abs(dz) <= getHalfWidth(dx, dy);
+	}
+
+	private boolean isOnSurface(int dx, int dy, int dz) {
+		return !isInside(dx + 1, dy, dz) || !isInside(dx - 1, dy, dz)
+			|| !isInside(dx, dy + 1, dz) || !isInside(dx, dy - 1, dz)
+			|| !isInside(dx, dy, dz + 1) || !isInside(dx, dy, dz - 1);
+	}
+
+	/**
+	 * For every (x, y) offset of the sphere, the largest z offset which is still inside it, or -1 if
+	 * there is none. Shared between explosions of the same radius.
+	 *
+	 * @param radius {@code int} The radius of the explosion
+	 * @return {@code int[]} Half widths indexed by (x + radius) * (2 * radius + 1) + y + radius
+	 */
+	private static synchronized int[] getSphere(int radius) {
+		return SPHERES.computeIfAbsent(radius, r -> {
+			int size = 2 * r + 1;
+			int blastRadius = r - 2;
+			int[] halfWidths = new int[size * size];
+			for (int dx = -r; dx <= r; dx++) {
+				for (int dy = -r; dy <= r; dy++) {
+					int rest = blastRadius < 0 ? -1 : blastRadius * blastRadius - dx * dx - dy * dy;
+					int halfWidth = -1;
+					if (rest >= 0) {
+						halfWidth = (int) Math.sqrt(rest);
+						while (halfWidth * halfWidth > rest) {
+							halfWidth--;
+						}
+						while ((halfWidth + 1) * (halfWidth + 1) <= rest) {
+							halfWidth++;
+						}
+					}
+					halfWidths[(dx + r) * size + dy + r] = halfWidth;
+				}
+			}
+			return halfWidths;
+		});
 	}
 
 	@Override
@@ -117,14 +328,13 @@ public class RebornExplosion extends Explosion {
 		List<BlockPos> poses = new ArrayList<>();
 		for (int tx = -radius; tx < radius + 1; tx++) {
 			for (int ty = -radius; ty < radius + 1; ty++) {
-				for (int tz = -radius; tz < radius + 1; tz++) {
-					if (Math.sqrt(Math.pow(tx, 2) + Math.pow(ty, 2) + Math.pow(tz, 2)) <= radius - 2) {
-						BlockPos pos = center.add(tx, ty, tz);
-						BlockState state = world.getBlockState(pos);
-						Block block = state.getBlock();
-						if (block != Blocks.BEDROCK && !state.isAir()) {
-							poses.add(pos);
-						}
+				int halfWidth = getHalfWidth(tx, ty);
+				for (int tz = -halfWidth; tz <= halfWidth; tz++) {
+					BlockPos pos = center.add(tx, ty, tz);
+					BlockState state = world.getBlockState(pos);
+					Block block = state.getBlock();
+					if (block != Blocks.BEDROCK && !state.isAir()) {
+						poses.add(pos);
 					}
 				}
 			}
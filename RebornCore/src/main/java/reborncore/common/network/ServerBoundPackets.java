@@ -72,6 +72,7 @@ public class ServerBoundPackets {
 			}
 			config.setInput(payload.input());
 			config.setOutput(payload.output());
+			machine.wakeUp();
 
 			// Syncs back to the client
 			NetworkManager.sendToTracking(new FluidConfigSyncPayload(payload.pos(), machine.fluidConfiguration), machine);
@@ -88,6 +89,7 @@ public class ServerBoundPackets {
 			holder.setInput(payload.input());
 			holder.setOutput(payload.output());
 			holder.setFilter(payload.filter());
+			machine.wakeUp();
 
 			//Syncs back to the client
 			NetworkManager.sendToAll(new SlotSyncPayload(payload.pos(), machine.getSlotConfiguration()), context.player().getServer());
@@ -33,13 +33,30 @@ import reborncore.common.chunkloading.ChunkLoaderManager;
 
 import java.util.List;
 
-public record ChunkSyncPayload(List<ChunkLoaderManager.LoadedChunk> chunks) implements CustomPayload {
+/**
+ * Syncs the chunks loaded by chunk loaders to the client.
+ *
+ * @param replace if true the client replaces its chunks with {@code chunks}, otherwise the chunks are added
+ * @param chunks the chunks to add
+ * @param removed the chunks to remove, always empty when replacing
+ */
+public record ChunkSyncPayload(boolean replace, List<ChunkLoaderManager.LoadedChunk> chunks, List<ChunkLoaderManager.LoadedChunk> removed) implements CustomPayload {
 	public static final Id<ChunkSyncPayload> ID = new Id<>(Identifier.of("reborncore:sync_chunks"));
 	public static final PacketCodec<RegistryByteBuf, ChunkSyncPayload> PACKET_CODEC = PacketCodec.tuple(
+		PacketCodecs.BOOL, ChunkSyncPayload::replace,
 		ChunkLoaderManager.LoadedChunk.PACKET_CODEC.collect(PacketCodecs.toList()), ChunkSyncPayload::chunks,
+		ChunkLoaderManager.LoadedChunk.PACKET_CODEC.collect(PacketCodecs.toList()), ChunkSyncPayload::removed,
 		ChunkSyncPayload::new
 	);
 
+	public static ChunkSyncPayload replace(List<ChunkLoaderManager.LoadedChunk> chunks) {
+		return new ChunkSyncPayload(true, chunks, List.of());
+	}
+
+	public static ChunkSyncPayload update(List<ChunkLoaderManager.LoadedChunk> added, List<ChunkLoaderManager.LoadedChunk> removed) {
+		return new ChunkSyncPayload(false, added, removed);
+	}
+
 	@Override
 	public Id<? extends CustomPayload> getId() {
 		return ID;
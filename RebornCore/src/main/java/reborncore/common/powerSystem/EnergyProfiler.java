@@ -0,0 +1,347 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.common.powerSystem;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+import reborncore.common.util.serialization.SerializationUtil;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in counters of where tick time and energy go, grouped by dimension, chunk, machine and cable network.
+ * <p>
+ * Nothing is recorded until {@link #start()} is called, callers check {@link #isEnabled()} before measuring so
+ * the disabled profiler costs a single field read. Counters are {@link LongAdder}s, so block entities ticked off
+ * the server thread by other mods don't contend on them.
+ */
+public final class EnergyProfiler {
+	private static volatile boolean enabled = false;
+	private static long startNanos;
+	private static long sampledTicks;
+
+	private static final Map<RegistryKey<World>, Counters> DIMENSIONS = new ConcurrentHashMap<>();
+	private static final Map<Location, Counters> CHUNKS = new ConcurrentHashMap<>();
+	private static final Map<Location, Counters> MACHINES = new ConcurrentHashMap<>();
+	private static final Map<Location, Counters> NETWORKS = new ConcurrentHashMap<>();
+
+	static {
+		ServerTickEvents.END_SERVER_TICK.register(server -> {
+			if (enabled) {
+				sampledTicks++;
+			}
+		});
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+			enabled = false;
+			reset();
+		});
+	}
+
+	private EnergyProfiler() {
+	}
+
+	public enum Metric {
+		TICKS,
+		TICK_NANOS,
+		IO_NANOS,
+		GENERATED,
+		/**
+		 * Energy delivered by cable networks to their targets.
+		 */
+		MOVED,
+		/**
+		 * Energy a machine pushed into its neighbours. Only kept per machine, the same energy is counted again
+		 * by whatever receives it, e.g. as {@link #MOVED} by a cable network.
+		 */
+		PUSHED(false),
+		CONSUMED,
+		RECIPE_LOOKUPS;
+
+		public final String key = name().toLowerCase(Locale.ROOT);
+		/**
+		 * Whether the metric is added to the chunk and dimension totals.
+		 */
+		private final boolean totaled;
+
+		Metric() {
+			this(true);
+		}
+
+		Metric(boolean totaled) {
+			this.totaled = totaled;
+		}
+	}
+
+	public enum Category {
+		DIMENSIONS,
+		CHUNKS,
+		MACHINES,
+		NETWORKS;
+
+		public final String key = name().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * A block or chunk position in a dimension, {@code pos} is a packed {@link BlockPos} or {@link ChunkPos}.
+	 */
+	public record Location(RegistryKey<World> dimension, long pos) {
+	}
+
+	public static final class Counters {
+		private final LongAdder[] values = new LongAdder[Metric.values().length];
+		@Nullable
+		private volatile String label;
+
+		private Counters() {
+			for (int i = 0; i < values.length; i++) {
+				values[i] = new LongAdder();
+			}
+		}
+
+		private void add(Metric metric, long value) {
+			values[metric.ordinal()].add(value);
+		}
+
+		public long get(Metric metric) {
+			return values[metric.ordinal()].sum();
+		}
+
+		/**
+		 * @return the block entity type of a machine, or the size of a cable network
+		 */
+		@Nullable
+		public String getLabel() {
+			return label;
+		}
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Starts a new sample, dropping the counters of the previous one.
+	 */
+	public static void start() {
+		reset();
+		startNanos = System.nanoTime();
+		enabled = true;
+	}
+
+	public static void stop() {
+		enabled = false;
+	}
+
+	public static void reset() {
+		DIMENSIONS.clear();
+		CHUNKS.clear();
+		MACHINES.clear();
+		NETWORKS.clear();
+		sampledTicks = 0;
+		startNanos = System.nanoTime();
+	}
+
+	/**
+	 * @return the number of server ticks recorded in the current sample
+	 */
+	public static long getSampledTicks() {
+		return sampledTicks;
+	}
+
+	public static long getSampledNanos() {
+		return System.nanoTime() - startNanos;
+	}
+
+	public static void recordTick(BlockEntity blockEntity, long nanos) {
+		record(blockEntity, Metric.TICKS, 1);
+		record(blockEntity, Metric.TICK_NANOS, nanos);
+	}
+
+	public static void recordItemIO(BlockEntity blockEntity, long nanos) {
+		record(blockEntity, Metric.IO_NANOS, nanos);
+	}
+
+	public static void recordGenerated(BlockEntity blockEntity, long amount) {
+		record(blockEntity, Metric.GENERATED, amount);
+	}
+
+	public static void recordConsumed(BlockEntity blockEntity, long amount) {
+		record(blockEntity, Metric.CONSUMED, amount);
+	}
+
+	public static void recordPushed(BlockEntity blockEntity, long amount) {
+		record(blockEntity, Metric.PUSHED, amount);
+	}
+
+	public static void recordRecipeLookup(BlockEntity blockEntity) {
+		record(blockEntity, Metric.RECIPE_LOOKUPS, 1);
+	}
+
+	/**
+	 * Records one tick of a cable network. Networks are identified by an anchor position that does not
+	 * depend on which of their cables ticked first.
+	 *
+	 * @param world  the world of the network
+	 * @param anchor the stable anchor position of the network
+	 * @param cables the number of cables in the network
+	 * @param nanos  the time spent ticking the network
+	 * @param moved  the energy the network delivered to its targets
+	 */
+	public static void recordNetworkTick(World world, BlockPos anchor, int cables, long nanos, long moved) {
+		if (!enabled || world == null) {
+			return;
+		}
+		RegistryKey<World> dimension = world.getRegistryKey();
+		Counters network = NETWORKS.computeIfAbsent(new Location(dimension, anchor.asLong()), location -> new Counters());
+		network.label = cables + " cables";
+		network.add(Metric.TICKS, 1);
+		network.add(Metric.TICK_NANOS, nanos);
+		network.add(Metric.MOVED, moved);
+
+		Counters chunk = CHUNKS.computeIfAbsent(new Location(dimension, ChunkPos.toLong(anchor)), location -> new Counters());
+		chunk.add(Metric.TICK_NANOS, nanos);
+		chunk.add(Metric.MOVED, moved);
+
+		Counters dim = DIMENSIONS.computeIfAbsent(dimension, key -> new Counters());
+		dim.add(Metric.TICK_NANOS, nanos);
+		dim.add(Metric.MOVED, moved);
+	}
+
+	private static void record(BlockEntity blockEntity, Metric metric, long value) {
+		World world = blockEntity.getWorld();
+		if (!enabled || world == null || world.isClient || value == 0) {
+			return;
+		}
+		RegistryKey<World> dimension = world.getRegistryKey();
+		BlockPos pos = blockEntity.getPos();
+
+		Counters machine = MACHINES.computeIfAbsent(new Location(dimension, pos.asLong()), location -> new Counters());
+		if (machine.label == null) {
+			Identifier type = Registries.BLOCK_ENTITY_TYPE.getId(blockEntity.getType());
+			machine.label = type == null ? blockEntity.getClass().getSimpleName() : type.toString();
+		}
+		machine.add(metric, value);
+		if (!metric.totaled) {
+			return;
+		}
+		CHUNKS.computeIfAbsent(new Location(dimension, ChunkPos.toLong(pos)), location -> new Counters()).add(metric, value);
+		DIMENSIONS.computeIfAbsent(dimension, key -> new Counters()).add(metric, value);
+	}
+
+	/**
+	 * @param category the group of counters
+	 * @param metric   the metric to sort by
+	 * @param count    the maximum number of entries
+	 * @return the entries with the highest value of the metric, highest first
+	 */
+	public static List<Map.Entry<Location, Counters>> getTop(Category category, Metric metric, int count) {
+		List<Map.Entry<Location, Counters>> entries = new ArrayList<>(getEntries(category));
+		entries.sort(Comparator.comparingLong((Map.Entry<Location, Counters> entry) -> entry.getValue().get(metric)).reversed());
+		return entries.subList(0, Math.min(count, entries.size()));
+	}
+
+	public static Map<RegistryKey<World>, Counters> getDimensions() {
+		return DIMENSIONS;
+	}
+
+	private static List<Map.Entry<Location, Counters>> getEntries(Category category) {
+		return switch (category) {
+			case DIMENSIONS -> {
+				List<Map.Entry<Location, Counters>> entries = new ArrayList<>();
+				DIMENSIONS.forEach((dimension, counters) -> entries.add(Map.entry(new Location(dimension, 0), counters)));
+				yield entries;
+			}
+			case CHUNKS -> new ArrayList<>(CHUNKS.entrySet());
+			case MACHINES -> new ArrayList<>(MACHINES.entrySet());
+			case NETWORKS -> new ArrayList<>(NETWORKS.entrySet());
+		};
+	}
+
+	/**
+	 * Writes every counter of the current sample to a JSON file, for graphing it offline.
+	 *
+	 * @param path the file to write
+	 * @throws IOException if the file could not be written
+	 */
+	public static void export(Path path) throws IOException {
+		JsonObject root = new JsonObject();
+		root.addProperty("ticks", sampledTicks);
+		root.addProperty("nanos", getSampledNanos());
+
+		for (Category category : Category.values()) {
+			JsonArray array = new JsonArray();
+			for (Map.Entry<Location, Counters> entry : getEntries(category)) {
+				Location location = entry.getKey();
+				JsonObject object = new JsonObject();
+				object.addProperty("dimension", location.dimension().getValue().toString());
+				switch (category) {
+					case CHUNKS -> {
+						object.addProperty("x", ChunkPos.getPackedX(location.pos()));
+						object.addProperty("z", ChunkPos.getPackedZ(location.pos()));
+					}
+					case MACHINES, NETWORKS -> {
+						object.addProperty("x", BlockPos.unpackLongX(location.pos()));
+						object.addProperty("y", BlockPos.unpackLongY(location.pos()));
+						object.addProperty("z", BlockPos.unpackLongZ(location.pos()));
+						object.addProperty("label", entry.getValue().getLabel());
+					}
+					default -> {
+					}
+				}
+				for (Metric metric : Metric.values()) {
+					object.addProperty(metric.key, entry.getValue().get(metric));
+				}
+				array.add(object);
+			}
+			root.add(category.key, array);
+		}
+
+		Files.createDirectories(path.getParent());
+		try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			SerializationUtil.GSON.toJson(root, writer);
+		}
+	}
+}
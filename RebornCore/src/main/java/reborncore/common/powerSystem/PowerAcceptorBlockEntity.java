@@ -24,6 +24,7 @@
 
 package reborncore.common.powerSystem;
 
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiCache;
 import net.fabricmc.fabric.api.transfer.v1.context.ContainerItemContext;
 import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
 import net.minecraft.block.BlockState;
@@ -32,6 +33,7 @@ import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.inventory.Inventory;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.math.BlockPos;
@@ -69,6 +71,12 @@ public abstract class PowerAcceptorBlockEntity extends MachineBaseBlockEntity im
 			}
 			return 0;
 		}
+
+		@Override
+		protected void onFinalCommit() {
+			// Energy might let a sleeping machine make progress again.
+			PowerAcceptorBlockEntity.this.wakeUp();
+		}
 	};
 	private RcEnergyTier blockEntityPowerTier;
 
@@ -78,6 +86,20 @@ public abstract class PowerAcceptorBlockEntity extends MachineBaseBlockEntity im
 	public long powerChange;
 	public long powerLastTick;
 	public boolean checkOverfill = true; // Set false to disable overfill check.
+	/**
+	 * Adjacent caches, used to quickly query adjacent energy storages.
+	 */
+	@SuppressWarnings("unchecked")
+	private final BlockApiCache<EnergyStorage, Direction>[] adjacentCaches = new BlockApiCache[6];
+	/**
+	 * Bitmask of the sides that have an energy storage next to them, -1 means that it needs to be re-queried.
+	 */
+	private int connectedSides = -1;
+	private int connectedSidesAge = 0;
+	/**
+	 * Neighbours in freshly loaded chunks don't cause a neighbour update, so the sides are re-queried at this interval.
+	 */
+	private static final int CONNECTED_SIDES_REFRESH = 100;
 
 	public PowerAcceptorBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state) {
 		super(type, pos, state);
@@ -111,6 +133,13 @@ public abstract class PowerAcceptorBlockEntity extends MachineBaseBlockEntity im
 	 * @param amount {@code long} Amount to add
 	 */
 	public void addEnergy(long amount){
+		if (EnergyProfiler.isEnabled()) {
+			if (amount > 0) {
+				EnergyProfiler.recordGenerated(this, amount);
+			} else {
+				EnergyProfiler.recordConsumed(this, -amount);
+			}
+		}
 		setStored(getEnergy() + amount);
 	}
 
@@ -130,6 +159,9 @@ public abstract class PowerAcceptorBlockEntity extends MachineBaseBlockEntity im
 	 * @param amount {@code long} Amount of energy to use
 	 */
 	public void useEnergy(long amount){
+		if (EnergyProfiler.isEnabled()) {
+			EnergyProfiler.recordConsumed(this, Math.min(amount, getEnergy()));
+		}
 		if (getEnergy() > amount) {
 			setStored(getEnergy() - amount);
 		} else {
@@ -337,19 +369,59 @@ public abstract class PowerAcceptorBlockEntity extends MachineBaseBlockEntity im
 			return;
 		}
 
-		for (Direction side : Direction.values()) {
-			EnergyStorageUtil.move(
-					getSideEnergyStorage(side),
-					EnergyStorage.SIDED.find(world, pos.offset(side), side.getOpposite()),
-					Long.MAX_VALUE,
-					null
-			);
+		if (connectedSides == -1 || ++connectedSidesAge >= CONNECTED_SIDES_REFRESH) {
+			updateConnectedSides((ServerWorld) world);
+		}
+
+		if (connectedSides != 0) {
+			for (Direction side : Direction.values()) {
+				if ((connectedSides & (1 << side.ordinal())) == 0) {
+					continue;
+				}
+
+				EnergyStorage target = adjacentCaches[side.getId()].find(side.getOpposite());
+				if (target == null) {
+					// The storage went away, re-query all sides next tick.
+					connectedSides = -1;
+					continue;
+				}
+
+				long moved = EnergyStorageUtil.move(
+						getSideEnergyStorage(side),
+						target,
+						Long.MAX_VALUE,
+						null
+				);
+				if (moved > 0 && EnergyProfiler.isEnabled()) {
+					EnergyProfiler.recordPushed(this, moved);
+				}
+			}
 		}
 
 		powerChange = getStored() - powerLastTick;
 		powerLastTick = getStored();
 	}
 
+	private void updateConnectedSides(ServerWorld serverWorld) {
+		connectedSides = 0;
+		connectedSidesAge = 0;
+
+		for (Direction side : Direction.values()) {
+			if (adjacentCaches[side.getId()] == null) {
+				adjacentCaches[side.getId()] = BlockApiCache.create(EnergyStorage.SIDED, serverWorld, pos.offset(side));
+			}
+			if (adjacentCaches[side.getId()].find(side.getOpposite()) != null) {
+				connectedSides |= 1 << side.ordinal();
+			}
+		}
+	}
+
+	@Override
+	public void onNeighborUpdate() {
+		super.onNeighborUpdate();
+		connectedSides = -1;
+	}
+
 	@Override
 	public void readNbt(NbtCompound tag, RegistryWrapper.WrapperLookup registryLookup) {
 		super.readNbt(tag, registryLookup);
@@ -34,10 +34,13 @@ import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.Nullable;
 import reborncore.RebornCore;
 import reborncore.api.recipe.IRecipeCrafterProvider;
+import reborncore.common.blockentity.MachineBaseBlockEntity;
 import reborncore.common.blocks.BlockMachineBase;
 import reborncore.common.crafting.RebornRecipe;
+import reborncore.common.crafting.RecipeIndex;
 import reborncore.common.crafting.SizedIngredient;
 import reborncore.common.crafting.RecipeUtils;
+import reborncore.common.powerSystem.EnergyProfiler;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import reborncore.common.util.ItemUtils;
 import reborncore.common.util.RebornInventory;
@@ -102,6 +105,15 @@ public class RecipeCrafter implements IUpgradeHandler {
 
 	int ticksSinceLastChange;
 
+	/**
+	 * Copy of the input slots from the last lookup where no recipe matched the inputs.
+	 * Used to skip the recipe lookup until the inputs change.
+	 */
+	@Nullable
+	private ItemStack[] unmatchedInputs = null;
+	@Nullable
+	private RecipeIndex<?> unmatchedIndex = null;
+
 	@Nullable
 	public static ICrafterSoundHandler soundHandler = (firstRun, blockEntity) -> {
 	};
@@ -207,9 +219,11 @@ public class RecipeCrafter implements IUpgradeHandler {
 	 */
 	public void updateCurrentRecipe() {
 		currentTickTime = 0;
-		for (RebornRecipe recipe : RecipeUtils.getRecipes(blockEntity.getWorld(), recipeType)) {
+		boolean inputsMatched = false;
+		for (RebornRecipe recipe : getCandidateRecipes()) {
 			// This checks to see if it has all the inputs
 			if (!hasAllInputs(recipe)) continue;
+			inputsMatched = true;
 			if (!recipe.canCraft(blockEntity)) continue;
 
 			final List<ItemStack> outputs = recipe.outputs();
@@ -228,11 +242,66 @@ public class RecipeCrafter implements IUpgradeHandler {
 			setIsActive();
 			return;
 		}
+		if (!inputsMatched) {
+			rememberUnmatchedInputs();
+		}
 		setCurrentRecipe(null);
 		currentNeededTicks = 0;
 		setIsActive();
 	}
 
+	/**
+	 * @return the recipes that might be crafted from the current inputs, empty if the inputs are known to match nothing
+	 */
+	private List<? extends RebornRecipe> getCandidateRecipes() {
+		RecipeIndex<? extends RebornRecipe> index = RecipeUtils.getRecipeIndex(blockEntity.getWorld(), recipeType);
+		if (unmatchedInputs != null) {
+			// The recipes might have been reloaded since.
+			if (unmatchedIndex == index && inputsEqual(unmatchedInputs)) {
+				return List.of();
+			}
+			unmatchedInputs = null;
+		}
+		if (EnergyProfiler.isEnabled()) {
+			EnergyProfiler.recordRecipeLookup(blockEntity);
+		}
+		return index.getCandidates(inventory, inputSlots);
+	}
+
+	private boolean inputsEqual(ItemStack[] stacks) {
+		for (int i = 0; i < inputSlots.length; i++) {
+			if (!ItemStack.areEqual(stacks[i], inventory.getStack(inputSlots[i]))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void rememberUnmatchedInputs() {
+		ItemStack[] stacks = new ItemStack[inputSlots.length];
+		for (int i = 0; i < inputSlots.length; i++) {
+			stacks[i] = inventory.getStack(inputSlots[i]).copy();
+		}
+		unmatchedInputs = stacks;
+		unmatchedIndex = RecipeUtils.getRecipeIndex(blockEntity.getWorld(), recipeType);
+	}
+
+	/**
+	 * Checks if the crafter cannot make progress until its inventory or energy changes.
+	 *
+	 * @return {@code boolean} Returns true if the inputs match no recipe, or if the current recipe lacks energy
+	 */
+	public boolean isIdle() {
+		if (currentRecipe == null) {
+			return unmatchedInputs != null
+				&& unmatchedIndex == RecipeUtils.getRecipeIndex(blockEntity.getWorld(), recipeType)
+				&& inputsEqual(unmatchedInputs);
+		}
+		return energy != null
+			&& currentTickTime < currentNeededTicks
+			&& energy.getStored() < getEuPerTick(currentRecipe.power());
+	}
+
 	public boolean hasAllInputs() {
 		return hasAllInputs(currentRecipe);
 	}
@@ -328,7 +397,7 @@ public class RecipeCrafter implements IUpgradeHandler {
 	}
 
 	public boolean canCraftAgain() {
-		for (RebornRecipe recipe : RecipeUtils.getRecipes(blockEntity.getWorld(), recipeType)) {
+		for (RebornRecipe recipe : getCandidateRecipes()) {
 			if (recipe.canCraft(blockEntity) && hasAllInputs(recipe)) {
 				final List<ItemStack> outputs = recipe.outputs();
 
@@ -346,16 +415,16 @@ public class RecipeCrafter implements IUpgradeHandler {
 	public void setIsActive() {
 		BlockPos pos = blockEntity.getPos();
 		if (blockEntity.getWorld() == null) return;
-		BlockState oldState  = blockEntity.getWorld().getBlockState(pos);
-		if (oldState.getBlock() instanceof BlockMachineBase blockMachineBase) {
+		BlockState oldState = blockEntity.getCachedState();
+		if (oldState.getBlock() instanceof BlockMachineBase && blockEntity instanceof MachineBaseBlockEntity machine) {
 			boolean isActive = isActive() || canCraftAgain();
 
-			if (isActive == oldState.get(BlockMachineBase.ACTIVE)) {
+			if (isActive == machine.isActive()) {
 				return;
 			}
 
-			blockMachineBase.setActive(isActive, blockEntity.getWorld(), pos);
-			blockEntity.getWorld().updateListeners(pos, oldState, blockEntity.getWorld().getBlockState(pos), 3);
+			machine.setActive(isActive);
+			blockEntity.getWorld().updateListeners(pos, oldState, blockEntity.getCachedState(), 3);
 		}
 	}
 
@@ -380,14 +449,7 @@ public class RecipeCrafter implements IUpgradeHandler {
 		// A bit of a hack but should work.
 		ItemStack largeStack = stack.copy();
 		largeStack.setCount(largeStack.getMaxCount());
-		for (RebornRecipe recipe : RecipeUtils.getRecipes(blockEntity.getWorld(), recipeType)) {
-			for (SizedIngredient ingredient : recipe.ingredients()) {
-				if (ingredient.test(largeStack)) {
-					return true;
-				}
-			}
-		}
-		return false;
+		return RecipeUtils.getRecipeIndex(blockEntity.getWorld(), recipeType).isIngredient(largeStack);
 	}
 
 	@Override
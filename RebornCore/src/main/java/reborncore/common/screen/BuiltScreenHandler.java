@@ -25,8 +25,6 @@
 package reborncore.common.screen;
 
 import io.netty.buffer.Unpooled;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.inventory.CraftingInventory;
@@ -34,7 +32,6 @@ import net.minecraft.inventory.Inventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.network.PacketByteBuf;
 import net.minecraft.network.RegistryByteBuf;
-import net.minecraft.network.codec.PacketCodec;
 import net.minecraft.screen.ScreenHandler;
 import net.minecraft.screen.ScreenHandlerListener;
 import net.minecraft.screen.ScreenHandlerType;
@@ -45,12 +42,13 @@ import reborncore.common.blockentity.MachineBaseBlockEntity;
 import reborncore.common.network.NetworkManager;
 import reborncore.common.network.clientbound.ScreenHandlerUpdatePayload;
 import reborncore.common.screen.builder.SyncedObject;
+import reborncore.common.screen.builder.SyncedValue;
 import reborncore.common.util.ItemUtils;
 import reborncore.common.util.RangeUtil;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -61,9 +59,9 @@ public class BuiltScreenHandler extends ScreenHandler {
 	private final List<Range<Integer>> playerSlotRanges;
 	private final List<Range<Integer>> blockEntitySlotRanges;
 
-	// Holds the SyncPair along with the last value
-	private final Map<IdentifiedSyncedObject<?>, Object> syncPairCache = new HashMap<>();
-	private final Int2ObjectMap<IdentifiedSyncedObject<?>> syncPairIdLookup = new Int2ObjectOpenHashMap<>();
+	// Values synced to the client, the id of a value is its index
+	private SyncEntry[] syncEntries = new SyncEntry[0];
+	private long syncTicks = 0;
 
 	private List<Consumer<CraftingInventory>> craftEvents;
 
@@ -83,14 +81,12 @@ public class BuiltScreenHandler extends ScreenHandler {
 		this.blockEntity = blockEntity;
 	}
 
-	public void addObjectSync(final List<SyncedObject<?>> syncedObjects) {
-		for (final SyncedObject<?> syncedObject : syncedObjects) {
-			// Add a new sync pair to the cache with a null value
-			int id = syncPairCache.size() + 1;
-			var syncPair = new IdentifiedSyncedObject(syncedObject, id);
-			this.syncPairCache.put(syncPair, null);
-			this.syncPairIdLookup.put(id, syncPair);
+	public void addObjectSync(final List<SyncedValue> syncedValues) {
+		SyncEntry[] entries = Arrays.copyOf(syncEntries, syncEntries.length + syncedValues.size());
+		for (int i = 0; i < syncedValues.size(); i++) {
+			entries[syncEntries.length + i] = SyncEntry.of(syncedValues.get(i));
 		}
+		syncEntries = entries;
 	}
 
 	public void addCraftEvents(final List<Consumer<CraftingInventory>> craftEvents) {
@@ -113,8 +109,26 @@ public class BuiltScreenHandler extends ScreenHandler {
 	public void sendContentUpdates() {
 		super.sendContentUpdates();
 
+		if (listeners.isEmpty() || syncEntries.length == 0) {
+			return;
+		}
+
+		syncTicks++;
+		int changed = 0;
+		for (SyncEntry entry : syncEntries) {
+			if (entry.poll(syncTicks)) {
+				changed++;
+			}
+		}
+
+		if (changed == 0) {
+			return;
+		}
+
+		// Every listener gets the same update, so it is only encoded once
+		ScreenHandlerUpdatePayload payload = new ScreenHandlerUpdatePayload(writeScreenHandlerData(changed, false));
 		for (final ScreenHandlerListener listener : listeners) {
-			sendContentUpdatePacketToListener(listener);
+			sendToListener(listener, payload);
 		}
 	}
 
@@ -122,55 +136,49 @@ public class BuiltScreenHandler extends ScreenHandler {
 	public void addListener(final ScreenHandlerListener listener) {
 		super.addListener(listener);
 
-		sendContentUpdatePacketToListener(listener);
-	}
-
-	private void sendContentUpdatePacketToListener(final ScreenHandlerListener listener) {
-		Map<IdentifiedSyncedObject<?>, Object> updatedValues = new HashMap<>();
-
-		this.syncPairCache.replaceAll((identifiedSyncedObject, cached) -> {
-			final Object value = identifiedSyncedObject.get();
-
-			if (!value.equals(cached)) {
-				updatedValues.put(identifiedSyncedObject, value);
-				return value;
+		// The new listener has not seen the values which did not change since the last update
+		if (syncEntries.length > 0) {
+			for (SyncEntry entry : syncEntries) {
+				// Write the current values, the ones changed since the last update still need to reach the other listeners
+				if (entry.update()) {
+					entry.dirty = true;
+				}
 			}
-			return null;
-		});
-
-		if (updatedValues.isEmpty()) {
-			return;
+			sendToListener(listener, new ScreenHandlerUpdatePayload(writeScreenHandlerData(syncEntries.length, true)));
 		}
+	}
 
-		byte[] data = writeScreenHandlerData(updatedValues);
+	private void sendToListener(final ScreenHandlerListener listener, ScreenHandlerUpdatePayload payload) {
 		ServerPlayerEntityScreenHandlerHelper.getServerPlayerEntity(listener)
-			.ifPresent(serverPlayerEntity -> NetworkManager.sendToPlayer(new ScreenHandlerUpdatePayload(data), serverPlayerEntity));
+			.ifPresent(serverPlayerEntity -> NetworkManager.sendToPlayer(payload, serverPlayerEntity));
 	}
 
-	@SuppressWarnings({"rawtypes", "unchecked"})
-	private byte[] writeScreenHandlerData(Map<IdentifiedSyncedObject<?>, Object> updatedValues) {
+	private byte[] writeScreenHandlerData(int count, boolean all) {
 		RegistryByteBuf byteBuf = new RegistryByteBuf(PacketByteBufs.create(), blockEntity.getWorld().getRegistryManager());
 
-		byteBuf.writeInt(updatedValues.size());
-		for (Map.Entry<IdentifiedSyncedObject<?>, Object> entry : updatedValues.entrySet()) {
-			PacketCodec codec = entry.getKey().object().codec();
-			byteBuf.writeInt(entry.getKey().id());
-			codec.encode(byteBuf, entry.getValue());
+		byteBuf.writeVarInt(count);
+		for (int id = 0; id < syncEntries.length; id++) {
+			SyncEntry entry = syncEntries[id];
+			if (all || entry.dirty) {
+				if (!all) {
+					entry.dirty = false;
+				}
+				byteBuf.writeVarInt(id);
+				entry.write(byteBuf);
+			}
 		}
 
-		return byteBuf.array();
+		byte[] data = new byte[byteBuf.readableBytes()];
+		byteBuf.readBytes(data);
+		return data;
 	}
 
-	@SuppressWarnings({"rawtypes", "unchecked"})
 	public void applyScreenHandlerData(byte[] data) {
 		RegistryByteBuf byteBuf = new RegistryByteBuf(new PacketByteBuf(Unpooled.wrappedBuffer(data)), blockEntity.getWorld().getRegistryManager());
-		int size = byteBuf.readInt();
+		int size = byteBuf.readVarInt();
 
 		for (int i = 0; i < size; i++) {
-			int id = byteBuf.readInt();
-			IdentifiedSyncedObject syncedObject = syncPairIdLookup.get(id);
-			Object value = syncedObject.object().codec().decode(byteBuf);
-			syncedObject.set(value);
+			syncEntries[byteBuf.readVarInt()].read(byteBuf);
 		}
 	}
 
@@ -322,13 +330,170 @@ public class BuiltScreenHandler extends ScreenHandler {
 		return type;
 	}
 
-	private record IdentifiedSyncedObject<T>(SyncedObject<T> object, int id) {
-		public T get() {
-			return object.getter().get();
+	/**
+	 * The last value sent for a {@link SyncedValue}. A changed value is held back until the
+	 * interval of the value has passed, the latest value is sent then.
+	 */
+	private static abstract class SyncEntry {
+		private final int interval;
+		private long lastSent;
+		private boolean sent = false;
+		boolean dirty = false;
+
+		SyncEntry(int interval) {
+			this.interval = interval;
+		}
+
+		static SyncEntry of(SyncedValue value) {
+			return switch (value) {
+				case SyncedValue.IntValue intValue -> new IntEntry(intValue);
+				case SyncedValue.LongValue longValue -> new LongEntry(longValue);
+				case SyncedValue.BooleanValue booleanValue -> new BooleanEntry(booleanValue);
+				case SyncedObject<?> object -> new ObjectEntry<>(object);
+			};
+		}
+
+		boolean poll(long ticks) {
+			if (sent && ticks - lastSent < interval) {
+				return false;
+			}
+			if (update() || !sent) {
+				sent = true;
+				lastSent = ticks;
+				dirty = true;
+			}
+			return dirty;
+		}
+
+		/**
+		 * Reads the current value on the server
+		 *
+		 * @return {@code boolean} Returns true if the value differs from the last sent value
+		 */
+		abstract boolean update();
+
+		abstract void write(RegistryByteBuf buf);
+
+		abstract void read(RegistryByteBuf buf);
+	}
+
+	private static final class IntEntry extends SyncEntry {
+		private final SyncedValue.IntValue value;
+		private int last;
+
+		IntEntry(SyncedValue.IntValue value) {
+			super(value.interval());
+			this.value = value;
+		}
+
+		@Override
+		boolean update() {
+			int current = value.getter().getAsInt();
+			if (current == last) {
+				return false;
+			}
+			last = current;
+			return true;
+		}
+
+		@Override
+		void write(RegistryByteBuf buf) {
+			buf.writeVarInt(last);
+		}
+
+		@Override
+		void read(RegistryByteBuf buf) {
+			value.setter().accept(buf.readVarInt());
+		}
+	}
+
+	private static final class LongEntry extends SyncEntry {
+		private final SyncedValue.LongValue value;
+		private long last;
+
+		LongEntry(SyncedValue.LongValue value) {
+			super(value.interval());
+			this.value = value;
+		}
+
+		@Override
+		boolean update() {
+			long current = value.getter().getAsLong();
+			if (current == last) {
+				return false;
+			}
+			last = current;
+			return true;
+		}
+
+		@Override
+		void write(RegistryByteBuf buf) {
+			buf.writeVarLong(last);
+		}
+
+		@Override
+		void read(RegistryByteBuf buf) {
+			value.setter().accept(buf.readVarLong());
+		}
+	}
+
+	private static final class BooleanEntry extends SyncEntry {
+		private final SyncedValue.BooleanValue value;
+		private boolean last;
+
+		BooleanEntry(SyncedValue.BooleanValue value) {
+			super(value.interval());
+			this.value = value;
+		}
+
+		@Override
+		boolean update() {
+			boolean current = value.getter().getAsBoolean();
+			if (current == last) {
+				return false;
+			}
+			last = current;
+			return true;
+		}
+
+		@Override
+		void write(RegistryByteBuf buf) {
+			buf.writeBoolean(last);
+		}
+
+		@Override
+		void read(RegistryByteBuf buf) {
+			value.setter().accept(buf.readBoolean());
+		}
+	}
+
+	private static final class ObjectEntry<T> extends SyncEntry {
+		private final SyncedObject<T> value;
+		private T last;
+
+		ObjectEntry(SyncedObject<T> value) {
+			super(value.interval());
+			this.value = value;
+		}
+
+		@Override
+		boolean update() {
+			T current = value.getter().get();
+			if (Objects.equals(current, last)) {
+				return false;
+			}
+			last = current;
+			return true;
+		}
+
+		@Override
+		void write(RegistryByteBuf buf) {
+			value.codec().encode(buf, last);
 		}
 
-		public void set(T value) {
-			object.setter().accept(value);
+		@Override
+		void read(RegistryByteBuf buf) {
+			value.setter().accept(value.codec().decode(buf));
 		}
 	}
 }
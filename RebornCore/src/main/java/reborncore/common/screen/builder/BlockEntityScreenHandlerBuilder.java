@@ -26,6 +26,7 @@ package reborncore.common.screen.builder;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.DataResult;
+import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
 import net.minecraft.block.entity.AbstractFurnaceBlockEntity;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.inventory.CraftingInventory;
@@ -50,12 +51,22 @@ import reborncore.common.screen.Syncable;
 import reborncore.common.screen.slot.*;
 import team.reborn.energy.api.EnergyStorageUtil;
 
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public class BlockEntityScreenHandlerBuilder {
 
+	/**
+	 * Energy changes nearly every tick while a machine runs, so it is sent at most once every few ticks.
+	 */
+	private static final int ENERGY_SYNC_INTERVAL = 4;
+
 	private final Inventory inventory;
 	private final BlockEntity blockEntity;
 	private final ScreenHandlerBuilder parent;
@@ -144,7 +155,32 @@ public class BlockEntityScreenHandlerBuilder {
 	 * @return {@link BlockEntityScreenHandlerBuilder} Inventory which will do the sync
 	 */
 	public <T> BlockEntityScreenHandlerBuilder sync(PacketCodec<? super RegistryByteBuf, T> codec, Supplier<T> supplier, Consumer<T> setter) {
-		this.parent.objectValues.add(new SyncedObject<>(codec, supplier, setter));
+		this.parent.syncedValues.add(new SyncedObject<>(codec, supplier, setter));
+		return this;
+	}
+
+	public BlockEntityScreenHandlerBuilder syncInt(IntSupplier supplier, IntConsumer setter) {
+		this.parent.syncedValues.add(new SyncedValue.IntValue(supplier, setter, 1));
+		return this;
+	}
+
+	/**
+	 * @param supplier {@link LongSupplier} The supplier of the value on the server
+	 * @param setter   {@link LongConsumer} The setter to call on the client when the value has been updated
+	 * @param interval {@code int} The minimum number of ticks between two updates
+	 * @return {@link BlockEntityScreenHandlerBuilder} Inventory which will do the sync
+	 */
+	public BlockEntityScreenHandlerBuilder syncLong(LongSupplier supplier, LongConsumer setter, int interval) {
+		this.parent.syncedValues.add(new SyncedValue.LongValue(supplier, setter, interval));
+		return this;
+	}
+
+	public BlockEntityScreenHandlerBuilder syncLong(LongSupplier supplier, LongConsumer setter) {
+		return syncLong(supplier, setter, 1);
+	}
+
+	public BlockEntityScreenHandlerBuilder syncBoolean(BooleanSupplier supplier, BooleanConsumer setter) {
+		this.parent.syncedValues.add(new SyncedValue.BooleanValue(supplier, setter, 1));
 		return this;
 	}
 
@@ -171,9 +207,9 @@ public class BlockEntityScreenHandlerBuilder {
 
 	public BlockEntityScreenHandlerBuilder syncEnergyValue() {
 		if (this.blockEntity instanceof PowerAcceptorBlockEntity powerAcceptor) {
-			return this.sync(PacketCodecs.VAR_LONG, powerAcceptor::getEnergy, powerAcceptor::setEnergy)
-					.sync(PacketCodecs.VAR_LONG, powerAcceptor::getExtraPowerStorage, powerAcceptor::setExtraPowerStorage)
-					.sync(PacketCodecs.VAR_LONG, powerAcceptor::getPowerChange, powerAcceptor::setPowerChange);
+			return this.syncLong(powerAcceptor::getEnergy, powerAcceptor::setEnergy, ENERGY_SYNC_INTERVAL)
+					.syncLong(powerAcceptor::getExtraPowerStorage, powerAcceptor::setExtraPowerStorage)
+					.syncLong(powerAcceptor::getPowerChange, powerAcceptor::setPowerChange, ENERGY_SYNC_INTERVAL);
 		}
 
 		RebornCore.LOGGER.error(this.inventory + " is not an instance of TilePowerAcceptor! Energy cannot be synced.");
@@ -183,8 +219,8 @@ public class BlockEntityScreenHandlerBuilder {
 	public BlockEntityScreenHandlerBuilder syncCrafterValue() {
 		if (this.blockEntity instanceof IRecipeCrafterProvider recipeCrafter) {
 			return this
-					.sync(PacketCodecs.INTEGER, () -> recipeCrafter.getRecipeCrafter().currentTickTime, (time) -> recipeCrafter.getRecipeCrafter().currentTickTime = time)
-					.sync(PacketCodecs.INTEGER, () -> recipeCrafter.getRecipeCrafter().currentNeededTicks, (ticks) -> recipeCrafter.getRecipeCrafter().currentNeededTicks = ticks);
+					.syncInt(() -> recipeCrafter.getRecipeCrafter().currentTickTime, (time) -> recipeCrafter.getRecipeCrafter().currentTickTime = time)
+					.syncInt(() -> recipeCrafter.getRecipeCrafter().currentNeededTicks, (ticks) -> recipeCrafter.getRecipeCrafter().currentNeededTicks = ticks);
 		}
 
 		RebornCore.LOGGER.error(this.inventory + " is not an instance of IRecipeCrafterProvider! Craft progress cannot be synced.");
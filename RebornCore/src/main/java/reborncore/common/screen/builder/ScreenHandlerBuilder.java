@@ -46,7 +46,7 @@ public class ScreenHandlerBuilder {
 	final List<Slot> slots;
 	final List<Range<Integer>> playerInventoryRanges, blockEntityInventoryRanges;
 
-	final List<SyncedObject<?>> objectValues;
+	final List<SyncedValue> syncedValues;
 
 	final List<Consumer<CraftingInventory>> craftEvents;
 
@@ -58,7 +58,7 @@ public class ScreenHandlerBuilder {
 		this.playerInventoryRanges = new ArrayList<>();
 		this.blockEntityInventoryRanges = new ArrayList<>();
 
-		this.objectValues = new ArrayList<>();
+		this.syncedValues = new ArrayList<>();
 
 		this.craftEvents = new ArrayList<>();
 	}
@@ -88,8 +88,8 @@ public class ScreenHandlerBuilder {
 		final BuiltScreenHandler built = new BuiltScreenHandler(syncID, this.name, isUsable(blockEntity),
 				this.playerInventoryRanges,
 				this.blockEntityInventoryRanges, blockEntity);
-		if (!this.objectValues.isEmpty())
-			built.addObjectSync(objectValues);
+		if (!this.syncedValues.isEmpty())
+			built.addObjectSync(syncedValues);
 		if (!this.craftEvents.isEmpty()) {
 			built.addCraftEvents(this.craftEvents);
 		}
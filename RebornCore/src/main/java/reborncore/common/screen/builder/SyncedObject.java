@@ -30,5 +30,8 @@ import net.minecraft.network.codec.PacketCodec;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
-public record SyncedObject<T>(PacketCodec<? super RegistryByteBuf, T> codec, Supplier<T> getter, Consumer<T> setter) {
+public record SyncedObject<T>(PacketCodec<? super RegistryByteBuf, T> codec, Supplier<T> getter, Consumer<T> setter, int interval) implements SyncedValue {
+	public SyncedObject(PacketCodec<? super RegistryByteBuf, T> codec, Supplier<T> getter, Consumer<T> setter) {
+		this(codec, getter, setter, 1);
+	}
 }
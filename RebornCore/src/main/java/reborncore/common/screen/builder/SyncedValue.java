@@ -0,0 +1,54 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.common.screen.builder;
+
+import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * A value which is synced from the server to the screens watching it. Primitive values are compared
+ * and written without boxing.
+ */
+public sealed interface SyncedValue permits SyncedObject, SyncedValue.IntValue, SyncedValue.LongValue, SyncedValue.BooleanValue {
+
+	/**
+	 * @return {@code int} The minimum number of ticks between two updates of this value
+	 */
+	int interval();
+
+	record IntValue(IntSupplier getter, IntConsumer setter, int interval) implements SyncedValue {
+	}
+
+	record LongValue(LongSupplier getter, LongConsumer setter, int interval) implements SyncedValue {
+	}
+
+	record BooleanValue(BooleanSupplier getter, BooleanConsumer setter, int interval) implements SyncedValue {
+	}
+}
@@ -40,6 +40,10 @@ public class RebornInventory<T extends MachineBaseBlockEntity> extends Inventory
 	private final int stackLimit;
 	private final T blockEntity;
 	private boolean hasChanged = false;
+	/**
+	 * Incremented on every change, lets other systems detect changes without consuming {@link #hasChanged}.
+	 */
+	private int changeCount = 0;
 	private final IInventoryAccess<T> inventoryAccess;
 
 	public RebornInventory(int size, String invName, int invStackLimit, T blockEntity, IInventoryAccess<T> access) {
@@ -104,6 +108,7 @@ public class RebornInventory<T extends MachineBaseBlockEntity> extends Inventory
 		NbtCompound nbtTagList = data.getCompound(tag);
 		deserializeNBT(nbtTagList, registryLookup);
 		hasChanged = true;
+		changeCount++;
 	}
 
 	public void write(NbtCompound data, RegistryWrapper.WrapperLookup registryLookup) {
@@ -147,6 +152,10 @@ public class RebornInventory<T extends MachineBaseBlockEntity> extends Inventory
 		this.hasChanged = false;
 	}
 
+	public int getChangeCount() {
+		return changeCount;
+	}
+
 	public int getStackLimit() {
 		return stackLimit;
 	}
@@ -154,6 +163,7 @@ public class RebornInventory<T extends MachineBaseBlockEntity> extends Inventory
 	@Override
 	public void markDirty() {
 		super.markDirty();
+		changeCount++;
 		blockEntity.markDirty();
 	}
 
@@ -34,6 +34,7 @@ import net.minecraft.fluid.Fluids;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.registry.RegistryWrapper;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import reborncore.common.fluid.FluidValue;
 import reborncore.common.fluid.container.FluidInstance;
 import reborncore.common.screen.Syncable;
@@ -43,23 +44,32 @@ import java.util.function.UnaryOperator;
 
 public class Tank extends SnapshotParticipant<FluidInstance> implements Syncable, SingleSlotStorage<FluidVariant> {
 	private final String name;
-	private FluidInstance fluidInstance = new FluidInstance();
 	private final FluidValue capacity;
+	private final long capacityAmount;
+	// The tank state is kept as primitives, the FluidInstance view is only rebuilt when it is asked for after a change
+	private FluidVariant variant = FluidVariant.blank();
+	private long amount = 0;
+	@Nullable
+	private FluidInstance fluidInstance = FluidInstance.EMPTY;
 
 	public Tank(String name, FluidValue capacity) {
 		super();
 		this.name = name;
 		this.capacity = capacity;
+		this.capacityAmount = capacity.getRawValue();
 	}
 
 	@NotNull
 	public FluidInstance getFluidInstance() {
+		if (fluidInstance == null) {
+			fluidInstance = new FluidInstance(variant, FluidValue.fromRaw(amount));
+		}
 		return fluidInstance;
 	}
 
 	@NotNull
 	public Fluid getFluid() {
-		return getFluidInstance().fluid();
+		return variant.getFluid();
 	}
 
 	public FluidValue getFluidValueCapacity() {
@@ -67,30 +77,50 @@ public class Tank extends SnapshotParticipant<FluidInstance> implements Syncable
 	}
 
 	public FluidValue getFreeSpace() {
-		return getFluidValueCapacity().subtract(getFluidAmount());
+		return FluidValue.fromRaw(getFreeAmount());
+	}
+
+	/**
+	 * @return {@code long} Droplets that can still be added to the tank
+	 */
+	public long getFreeAmount() {
+		return Math.max(0, capacityAmount - amount);
 	}
 
 	public boolean canFit(Fluid fluid, FluidValue amount) {
-		return (isEmpty() || getFluid() == fluid) && getFreeSpace().equalOrMoreThan(amount);
+		return canFit(fluid, amount.getRawValue());
+	}
+
+	public boolean canFit(Fluid fluid, long amount) {
+		return (isEmpty() || getFluid() == fluid) && getFreeAmount() >= amount;
 	}
 
 	public boolean isEmpty() {
-		return getFluidInstance().isEmpty();
+		return variant.isBlank() || amount == 0;
 	}
 
 	public boolean isFull() {
-		return !getFluidInstance().isEmpty() && getFluidInstance().getAmount().equalOrMoreThan(getFluidValueCapacity());
+		return !isEmpty() && amount >= capacityAmount;
 	}
 
 	public final NbtCompound write(NbtCompound nbt, RegistryWrapper.WrapperLookup wrapperLookup) {
-		NbtCompound tankData = SerializationUtil.writeNbt(FluidInstance.CODEC, fluidInstance, wrapperLookup);
+		NbtCompound tankData = SerializationUtil.writeNbt(FluidInstance.CODEC, getFluidInstance(), wrapperLookup);
 		nbt.put(name, tankData);
 		return nbt;
 	}
 
 	public void setFluidAmount(FluidValue amount) {
-		if (!fluidInstance.isEmptyFluid()) {
-			modifyFluid(fluidInstance -> fluidInstance.withAmount(amount));
+		setAmount(amount.getRawValue());
+	}
+
+	/**
+	 * Sets the amount of the current fluid, does nothing while the tank has no fluid type
+	 *
+	 * @param amount {@code long} New amount in droplets
+	 */
+	public void setAmount(long amount) {
+		if (!variant.isBlank()) {
+			setAmountInternal(Math.max(0, amount));
 		}
 	}
 
@@ -100,13 +130,14 @@ public class Tank extends SnapshotParticipant<FluidInstance> implements Syncable
 			setFluid(Fluids.EMPTY);
 
 			NbtCompound tankData = nbt.getCompound(name);
-			fluidInstance = SerializationUtil.parseNbt(FluidInstance.CODEC, tankData, wrapperLookup, () -> FluidInstance.EMPTY, "tank data");
+			setFluidInstance(SerializationUtil.parseNbt(FluidInstance.CODEC, tankData, wrapperLookup, () -> FluidInstance.EMPTY, "tank data"));
 		}
 		return this;
 	}
 
 	public void setFluid(@NotNull Fluid f) {
-		modifyFluid(fluidInstance -> fluidInstance.withFluid(f));
+		variant = FluidVariant.of(f);
+		fluidInstance = null;
 	}
 
 	@Override
@@ -119,11 +150,57 @@ public class Tank extends SnapshotParticipant<FluidInstance> implements Syncable
 	}
 
 	public void modifyFluid(UnaryOperator<FluidInstance> operator) {
-		setFluidInstance(operator.apply(fluidInstance));
+		setFluidInstance(operator.apply(getFluidInstance()));
 	}
 
 	public void setFluidInstance(@NotNull FluidInstance fluidInstance) {
 		this.fluidInstance = fluidInstance;
+		// fluidVariant() hides the fluid of an empty instance, the tank keeps it like FluidInstance does
+		this.variant = fluidInstance.isEmpty() ? FluidVariant.of(fluidInstance.fluid()) : fluidInstance.fluidVariant();
+		this.amount = fluidInstance.getAmount().getRawValue();
+	}
+
+	private void setAmountInternal(long amount) {
+		if (this.amount != amount) {
+			this.amount = amount;
+			fluidInstance = null;
+		}
+	}
+
+	/**
+	 * Adds fluid outside of a transaction, for transfers within the mod.
+	 *
+	 * @param fluid     {@link Fluid} Fluid to add
+	 * @param maxAmount {@code long} Droplets to add at most
+	 * @return {@code long} Droplets actually added
+	 */
+	public long fill(Fluid fluid, long maxAmount) {
+		if (maxAmount <= 0 || (!isEmpty() && getFluid() != fluid)) {
+			return 0;
+		}
+		long filled = Math.min(maxAmount, getFreeAmount());
+		if (filled > 0) {
+			if (isEmpty()) {
+				variant = FluidVariant.of(fluid);
+				amount = 0;
+			}
+			setAmountInternal(amount + filled);
+		}
+		return filled;
+	}
+
+	/**
+	 * Removes fluid outside of a transaction, for transfers within the mod.
+	 *
+	 * @param maxAmount {@code long} Droplets to remove at most
+	 * @return {@code long} Droplets actually removed
+	 */
+	public long drain(long maxAmount) {
+		long drained = Math.min(Math.max(0, maxAmount), amount);
+		if (drained > 0) {
+			setAmountInternal(amount - drained);
+		}
+		return drained;
 	}
 
 	@Override
@@ -139,10 +216,12 @@ public class Tank extends SnapshotParticipant<FluidInstance> implements Syncable
 
 				// Just in case.
 				if (currentVariant.isBlank()) {
-					modifyFluid(fluidInstance -> fluidInstance.withAmount(FluidValue.EMPTY));
+					amount = 0;
 				}
 
-				modifyFluid(fluidInstance -> fluidInstance.withFluid(insertedVariant.getFluid()).addAmount(FluidValue.fromRaw(insertedAmount)));
+				variant = insertedVariant;
+				fluidInstance = null;
+				setAmountInternal(amount + insertedAmount);
 			}
 
 			return insertedAmount;
@@ -162,7 +241,7 @@ public class Tank extends SnapshotParticipant<FluidInstance> implements Syncable
 			if (extractedAmount > 0) {
 				updateSnapshots(transaction);
 
-				modifyFluid(fluidInstance -> fluidInstance.subtractAmount(FluidValue.fromRaw(extractedAmount)));
+				setAmountInternal(amount - extractedAmount);
 			}
 
 			return extractedAmount;
@@ -178,24 +257,22 @@ public class Tank extends SnapshotParticipant<FluidInstance> implements Syncable
 
 	@Override
 	public FluidVariant getResource() {
-		return fluidInstance.fluidVariant();
+		return isEmpty() ? FluidVariant.blank() : variant;
 	}
 
 	@Override
-	@SuppressWarnings({"deprecation"})
 	public long getAmount() {
-		return fluidInstance.getAmount().getRawValue();
+		return amount;
 	}
 
 	@Override
-	@SuppressWarnings({"deprecation"})
 	public long getCapacity() {
-		return getFluidValueCapacity().getRawValue();
+		return capacityAmount;
 	}
 
 	@Override
 	protected FluidInstance createSnapshot() {
-		return fluidInstance;
+		return getFluidInstance();
 	}
 
 	@Override
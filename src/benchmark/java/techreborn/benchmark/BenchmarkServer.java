@@ -0,0 +1,145 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package techreborn.benchmark;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs benchmark code on the server thread. World access from another thread either fails or blocks on the
+ * server thread, so JMH runs on its own thread and hands the work over. Benchmarks should batch enough
+ * operations per call to keep the hand-over out of the results.
+ */
+public final class BenchmarkServer {
+	/**
+	 * Flags used to place benchmark blocks, skips neighbour updates so the setup does not depend on the order.
+	 */
+	public static final int SET_FLAGS = Block.NOTIFY_LISTENERS | Block.FORCE_STATE;
+
+	private static final BlockingQueue<Runnable> TASKS = new LinkedBlockingQueue<>();
+	private static MinecraftServer server;
+
+	private BenchmarkServer() {
+	}
+
+	/**
+	 * Runs the queued tasks on the calling server thread until the given future is done.
+	 */
+	static void serve(MinecraftServer server, Future<?> until) {
+		BenchmarkServer.server = server;
+		try {
+			while (!until.isDone()) {
+				Runnable task = TASKS.poll(10, TimeUnit.MILLISECONDS);
+				if (task != null) {
+					task.run();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	public static ServerWorld getWorld() {
+		if (server == null) {
+			throw new IllegalStateException("Benchmarks must run inside the benchmark server");
+		}
+		return server.getOverworld();
+	}
+
+	public static <T> T call(Callable<T> callable) {
+		if (server != null && server.isOnThread()) {
+			try {
+				return callable.call();
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		FutureTask<T> task = new FutureTask<>(callable);
+		TASKS.add(task);
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	public static void run(Runnable runnable) {
+		call(Executors.callable(runnable));
+	}
+
+	/**
+	 * Loads and force loads the chunks containing the box, must be called on the server thread.
+	 */
+	public static void loadArea(ServerWorld world, BlockBox box) {
+		ChunkPos min = new ChunkPos(new BlockPos(box.getMinX(), 0, box.getMinZ()));
+		ChunkPos max = new ChunkPos(new BlockPos(box.getMaxX(), 0, box.getMaxZ()));
+		for (int x = min.x; x <= max.x; x++) {
+			for (int z = min.z; z <= max.z; z++) {
+				world.setChunkForced(x, z, true);
+				world.getChunk(x, z);
+			}
+		}
+	}
+
+	/**
+	 * Replaces every block in the box with air, without block updates. Must be called on the server thread.
+	 */
+	public static void clear(World world, BlockBox box) {
+		BlockState air = Blocks.AIR.getDefaultState();
+		for (BlockPos pos : BlockPos.iterate(box.getMinX(), box.getMinY(), box.getMinZ(), box.getMaxX(), box.getMaxY(), box.getMaxZ())) {
+			world.setBlockState(pos, air, SET_FLAGS);
+		}
+	}
+
+	/**
+	 * Places the block without block updates and returns its block entity. Must be called on the server thread.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends BlockEntity> T place(World world, BlockPos pos, BlockState state) {
+		world.setBlockState(pos, state, SET_FLAGS);
+		return (T) Objects.requireNonNull(world.getBlockEntity(pos), "No block entity at " + pos);
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package techreborn.benchmark;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.BlockView;
+import net.minecraft.world.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reborncore.common.blockentity.MachineBaseBlockEntity;
+import reborncore.common.blockentity.MultiblockWriter;
+import techreborn.init.TRContent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+/**
+ * Verifies complete multiblock structures, the same way {@link MachineBaseBlockEntity#isMultiblockValid()} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MultiblockVerifierBenchmark {
+	private static final BlockPos POS = new BlockPos(4800, 8, 4800);
+	private static final int VERIFICATIONS = 100;
+
+	@Param({"INDUSTRIAL_BLAST_FURNACE", "INDUSTRIAL_GRINDER", "INDUSTRIAL_SAWMILL", "IMPLOSION_COMPRESSOR", "VACUUM_FREEZER"})
+	public String machineType;
+
+	private MachineBaseBlockEntity machine;
+	private BlockBox bounds;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		BenchmarkServer.run(() -> {
+			ServerWorld world = BenchmarkServer.getWorld();
+			BenchmarkServer.loadArea(world, new BlockBox(POS).expand(8));
+			machine = BenchmarkServer.place(world, POS, TRContent.Machine.valueOf(machineType).block.getDefaultState());
+
+			Direction facing = machine.getFacing();
+			machine.writeMultiblock(new Placer(world, POS).rotate(facing.getOpposite()));
+
+			MultiblockWriter.MultiblockVerifier verifier = new MultiblockWriter.MultiblockVerifier(POS, world);
+			machine.writeMultiblock(verifier.rotate(facing.getOpposite()));
+			if (!verifier.isValid()) {
+				throw new IllegalStateException("Failed to build the " + machineType + " multiblock");
+			}
+			bounds = verifier.getBounds();
+		});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkServer.run(() -> BenchmarkServer.clear(BenchmarkServer.getWorld(), bounds.encompass(POS)));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VERIFICATIONS)
+	public void verify(Blackhole blackhole) {
+		BenchmarkServer.run(() -> {
+			World world = machine.getWorld();
+			Direction facing = machine.getFacing();
+			for (int i = 0; i < VERIFICATIONS; i++) {
+				MultiblockWriter.MultiblockVerifier verifier = new MultiblockWriter.MultiblockVerifier(POS, world);
+				machine.writeMultiblock(verifier.rotate(facing.getOpposite()));
+				blackhole.consume(verifier.isValid());
+			}
+		});
+	}
+
+	/**
+	 * Builds the structure out of the hologram states, leaving the controller in place.
+	 */
+	private record Placer(World world, BlockPos origin) implements MultiblockWriter {
+		@Override
+		public MultiblockWriter add(int x, int y, int z, BiPredicate<BlockView, BlockPos> predicate, BlockState state) {
+			if (x != 0 || y != 0 || z != 0) {
+				world.setBlockState(origin.add(x, y, z), state, BenchmarkServer.SET_FLAGS);
+			}
+			return this;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package techreborn.benchmark;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reborncore.common.crafting.RebornRecipe;
+import reborncore.common.crafting.RecipeUtils;
+import reborncore.common.crafting.SizedIngredient;
+import reborncore.common.recipes.RecipeCrafter;
+import techreborn.blockentity.machine.GenericMachineBlockEntity;
+import techreborn.init.ModRecipes;
+import techreborn.init.TRContent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up the grinder recipe after every input change, cycling through all grinder inputs, through items
+ * without a recipe, or keeping the same item without a recipe.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RecipeCrafterBenchmark {
+	private static final BlockPos POS = new BlockPos(3200, 0, 3200);
+	private static final int UPDATES = 100;
+
+	@Param({"matching", "unmatched", "repeated"})
+	public String inputs;
+
+	private GenericMachineBlockEntity machine;
+	private RecipeCrafter crafter;
+	private final List<ItemStack> stacks = new ArrayList<>();
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		BenchmarkServer.run(() -> {
+			ServerWorld world = BenchmarkServer.getWorld();
+			BenchmarkServer.loadArea(world, new BlockBox(POS));
+			machine = BenchmarkServer.place(world, POS, TRContent.Machine.GRINDER.block.getDefaultState());
+			// The world does not tick while benchmarking
+			machine.onLoad();
+			crafter = machine.getRecipeCrafter();
+
+			switch (inputs) {
+				case "matching" -> {
+					for (RebornRecipe recipe : RecipeUtils.getRecipes(world, ModRecipes.GRINDER)) {
+						SizedIngredient ingredient = recipe.ingredients().get(0);
+						ItemStack[] matching = ingredient.ingredient().getMatchingStacks();
+						if (matching.length > 0) {
+							stacks.add(matching[0].copyWithCount(ingredient.count()));
+						}
+					}
+				}
+				case "unmatched" -> {
+					stacks.add(new ItemStack(Items.BEDROCK));
+					stacks.add(new ItemStack(Items.BARRIER));
+					stacks.add(new ItemStack(Items.STRUCTURE_VOID));
+					stacks.add(new ItemStack(Items.COMMAND_BLOCK));
+				}
+				case "repeated" -> stacks.add(new ItemStack(Items.BEDROCK));
+				default -> throw new IllegalArgumentException("Unknown inputs " + inputs);
+			}
+		});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkServer.run(() -> {
+			BenchmarkServer.clear(BenchmarkServer.getWorld(), new BlockBox(POS));
+			stacks.clear();
+			next = 0;
+		});
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(UPDATES)
+	public void updateCurrentRecipe(Blackhole blackhole) {
+		BenchmarkServer.run(() -> {
+			for (int i = 0; i < UPDATES; i++) {
+				machine.getInventory().setStack(0, stacks.get(next++ % stacks.size()).copy());
+				crafter.updateCurrentRecipe();
+				blackhole.consume(crafter.currentRecipe);
+			}
+		});
+	}
+}
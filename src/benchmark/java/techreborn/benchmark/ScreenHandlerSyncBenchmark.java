@@ -0,0 +1,112 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package techreborn.benchmark;
+
+import net.fabricmc.fabric.api.entity.FakePlayer;
+import net.minecraft.item.ItemStack;
+import net.minecraft.screen.ScreenHandler;
+import net.minecraft.screen.ScreenHandlerListener;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reborncore.common.screen.BuiltScreenHandler;
+import techreborn.blockentity.machine.tier1.GrinderBlockEntity;
+import techreborn.init.TRContent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends the grinder screen handler updates to a listener, with the stored energy changing on every update or
+ * nothing changing at all. The listener is not a player, so this covers polling and encoding but not sending.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ScreenHandlerSyncBenchmark {
+	private static final BlockPos POS = new BlockPos(3264, 0, 3200);
+	private static final int UPDATES = 100;
+
+	@Param({"changed", "unchanged"})
+	public String energy;
+
+	private GrinderBlockEntity machine;
+	private BuiltScreenHandler screenHandler;
+	private long stored;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		BenchmarkServer.run(() -> {
+			ServerWorld world = BenchmarkServer.getWorld();
+			BenchmarkServer.loadArea(world, new BlockBox(POS));
+			machine = BenchmarkServer.place(world, POS, TRContent.Machine.GRINDER.block.getDefaultState());
+			machine.onLoad();
+
+			screenHandler = machine.createScreenHandler(1, FakePlayer.get(world));
+			screenHandler.addListener(new ScreenHandlerListener() {
+				@Override
+				public void onSlotUpdate(ScreenHandler handler, int slotId, ItemStack stack) {
+				}
+
+				@Override
+				public void onPropertyUpdate(ScreenHandler handler, int property, int value) {
+				}
+			});
+		});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkServer.run(() -> BenchmarkServer.clear(BenchmarkServer.getWorld(), new BlockBox(POS)));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(UPDATES)
+	public void sendContentUpdates() {
+		BenchmarkServer.run(() -> {
+			boolean changed = energy.equals("changed");
+			for (int i = 0; i < UPDATES; i++) {
+				if (changed) {
+					stored = (stored + 1) % machine.getMaxStoredPower();
+					machine.setStored(stored);
+				}
+				screenHandler.sendContentUpdates();
+			}
+		});
+	}
+}
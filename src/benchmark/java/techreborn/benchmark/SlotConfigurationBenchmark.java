@@ -0,0 +1,115 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package techreborn.benchmark;
+
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.ChestBlockEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.level.ServerWorldProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reborncore.common.blockentity.SlotConfiguration;
+import techreborn.blockentity.machine.GenericMachineBlockEntity;
+import techreborn.init.TRContent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Auto outputs the grinder output slot into a chest on top, either with a full output slot on every transfer
+ * interval or with nothing to move.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SlotConfigurationBenchmark {
+	private static final BlockPos POS = new BlockPos(3232, 0, 3200);
+	private static final int OUTPUT_SLOT = 1;
+	private static final int UPDATES = 100;
+
+	@Param({"moving", "idle"})
+	public String output;
+
+	private GenericMachineBlockEntity machine;
+	private ChestBlockEntity chest;
+	private SlotConfiguration slotConfiguration;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		BenchmarkServer.run(() -> {
+			ServerWorld world = BenchmarkServer.getWorld();
+			BenchmarkServer.loadArea(world, new BlockBox(POS));
+			machine = BenchmarkServer.place(world, POS, TRContent.Machine.GRINDER.block.getDefaultState());
+			chest = BenchmarkServer.place(world, POS.up(), Blocks.CHEST.getDefaultState());
+			// The world does not tick while benchmarking
+			machine.onLoad();
+
+			slotConfiguration = machine.getSlotConfiguration();
+			SlotConfiguration.SlotConfigHolder holder = slotConfiguration.getSlotDetails(OUTPUT_SLOT);
+			holder.updateSlotConfig(new SlotConfiguration.SlotConfig(Direction.UP, new SlotConfiguration.SlotIO(SlotConfiguration.ExtractConfig.OUTPUT), OUTPUT_SLOT));
+			holder.setOutput(true);
+
+			// Items are only moved on transfer intervals, and the time stays the same while benchmarking
+			long time = world.getTime();
+			((ServerWorldProperties) world.getLevelProperties()).setTime(time - time % machine.slotTransferSpeed());
+		});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkServer.run(() -> BenchmarkServer.clear(BenchmarkServer.getWorld(), new BlockBox(POS.getX(), POS.getY(), POS.getZ(), POS.getX(), POS.getY() + 1, POS.getZ())));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(UPDATES)
+	public void update() {
+		BenchmarkServer.run(() -> {
+			boolean moving = output.equals("moving");
+			for (int i = 0; i < UPDATES; i++) {
+				if (moving) {
+					machine.getInventory().setStack(OUTPUT_SLOT, new ItemStack(Items.COBBLESTONE, 64));
+				}
+				slotConfiguration.update(machine);
+				chest.removeStack(0);
+			}
+		});
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package techreborn.benchmark;
+
+import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.server.MinecraftServer;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Runs the JMH benchmarks once the server started and stops it afterwards.
+ *
+ * <p>JMH cannot fork here, the benchmarks need the registries, recipes and world of this server. Iteration
+ * counts are fixed in the benchmark classes and the world is recreated by the runBenchmark task, so the JSON
+ * results of two commits can be compared directly.
+ */
+public class TRBenchmarks implements ModInitializer {
+	private static final Logger LOGGER = LoggerFactory.getLogger(TRBenchmarks.class);
+
+	@Override
+	public void onInitialize() {
+		ServerLifecycleEvents.SERVER_STARTED.register(TRBenchmarks::runBenchmarks);
+	}
+
+	private static void runBenchmarks(MinecraftServer server) {
+		Path result = Path.of(System.getProperty("techreborn.benchmark.result", "benchmark-results.json")).toAbsolutePath();
+		try {
+			Files.createDirectories(result.getParent());
+		} catch (IOException e) {
+			throw new RuntimeException("Failed to create " + result.getParent(), e);
+		}
+
+		Options options = new OptionsBuilder()
+			.include(System.getProperty("techreborn.benchmark.include", ".*"))
+			.forks(0)
+			.threads(1)
+			.shouldFailOnError(true)
+			.resultFormat(ResultFormatType.JSON)
+			.result(result.toString())
+			.build();
+
+		FutureTask<Collection<RunResult>> run = new FutureTask<>(() -> new Runner(options).run());
+		Thread thread = new Thread(run, "TechReborn Benchmark");
+		thread.setContextClassLoader(TRBenchmarks.class.getClassLoader());
+		thread.setDaemon(true);
+		thread.start();
+
+		BenchmarkServer.serve(server, run);
+
+		try {
+			LOGGER.info("Finished {} benchmarks, results written to {}", run.get().size(), result);
+		} catch (ExecutionException e) {
+			LOGGER.error("Benchmark run failed", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.error("Benchmark run interrupted", e);
+		}
+
+		server.stop(false);
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package techreborn.blockentity.cable;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
+import techreborn.benchmark.BenchmarkServer;
+import techreborn.blocks.storage.energy.EnergyStorageBlock;
+import techreborn.init.TRContent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ticks and rebuilds a cuboid copper cable network with a few storage units feeding into and draining it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CableTickBenchmark {
+	private static final BlockPos ORIGIN = new BlockPos(1600, 0, 1600);
+	private static final int WIDTH = 32;
+	private static final int TICKS = 100;
+	private static final int REBUILDS = 10;
+
+	@Param({"1000", "10000", "100000"})
+	public int cables;
+
+	private BlockBox box;
+	private CableBlockEntity start;
+	private final List<PowerAcceptorBlockEntity> sources = new ArrayList<>();
+	private final List<PowerAcceptorBlockEntity> sinks = new ArrayList<>();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		BenchmarkServer.run(() -> {
+			ServerWorld world = BenchmarkServer.getWorld();
+			int layers = (cables + WIDTH * WIDTH - 1) / (WIDTH * WIDTH);
+			box = new BlockBox(ORIGIN.getX() - 1, ORIGIN.getY(), ORIGIN.getZ(), ORIGIN.getX() + WIDTH, ORIGIN.getY() + layers - 1, ORIGIN.getZ() + WIDTH - 1);
+			BenchmarkServer.loadArea(world, box);
+			BenchmarkServer.clear(world, box);
+
+			BlockState cable = TRContent.Cables.COPPER.block.getDefaultState();
+			for (int i = 0; i < cables; i++) {
+				int layer = i / (WIDTH * WIDTH);
+				int index = i % (WIDTH * WIDTH);
+				world.setBlockState(ORIGIN.add(index % WIDTH, layer, index / WIDTH), cable, BenchmarkServer.SET_FLAGS);
+			}
+
+			// Sources face the cables on the west side, sinks face away from them on the east side
+			BlockState storage = TRContent.Machine.LOW_VOLTAGE_SU.block.getDefaultState().with(EnergyStorageBlock.FACING, Direction.EAST);
+			for (int z = 0; z < WIDTH; z += 8) {
+				sources.add(BenchmarkServer.place(world, ORIGIN.add(-1, 0, z), storage));
+				sinks.add(BenchmarkServer.place(world, ORIGIN.add(WIDTH, 0, z), storage));
+			}
+
+			start = (CableBlockEntity) world.getBlockEntity(ORIGIN);
+			CableTickManager.handleCableTick(start);
+		});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkServer.run(() -> {
+			BenchmarkServer.clear(BenchmarkServer.getWorld(), box);
+			sources.clear();
+			sinks.clear();
+			start = null;
+		});
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TICKS)
+	public void tickNetwork(Blackhole blackhole) {
+		BenchmarkServer.run(() -> {
+			for (int i = 0; i < TICKS; i++) {
+				for (PowerAcceptorBlockEntity source : sources) {
+					source.setStored(source.getMaxStoredPower());
+				}
+				for (PowerAcceptorBlockEntity sink : sinks) {
+					sink.setStored(0);
+				}
+				// The network only ticks once per server tick, which does not advance while benchmarking
+				start.network.lastTick = -1;
+				CableTickManager.handleCableTick(start);
+				blackhole.consume(start.network.amount);
+			}
+		});
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(REBUILDS)
+	public void rebuildNetwork(Blackhole blackhole) {
+		BenchmarkServer.run(() -> {
+			for (int i = 0; i < REBUILDS; i++) {
+				start.network.invalidate();
+				CableTickManager.handleCableTick(start);
+				blackhole.consume(start.network);
+			}
+		});
+	}
+}
@@ -35,6 +35,7 @@ import reborncore.common.config.Configuration;
 import reborncore.common.recipes.RecipeCrafter;
 import reborncore.common.util.Torus;
 import techreborn.blockentity.GuiType;
+import techreborn.blockentity.machine.tier1.ElevatorIndex;
 import techreborn.component.TRDataComponentTypes;
 import techreborn.config.TechRebornConfig;
 import techreborn.events.ApplyArmorToDamageHandler;
@@ -89,6 +90,7 @@ public class TechReborn implements ModInitializer {
 		PoweredCraftingHandler.setup();
 		UseBlockHandler.init();
 		ApplyArmorToDamageHandler.init();
+		ElevatorIndex.init();
 		FuelRecipes.init();
 
 
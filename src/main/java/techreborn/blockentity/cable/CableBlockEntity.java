@@ -26,6 +26,8 @@ package techreborn.blockentity.cable;
 
 import net.fabricmc.fabric.api.lookup.v1.block.BlockApiCache;
 import net.fabricmc.fabric.api.rendering.data.v1.RenderAttachmentBlockEntity;
+import net.fabricmc.fabric.api.transfer.v1.storage.StoragePreconditions;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntity;
@@ -83,7 +85,13 @@ public class CableBlockEntity extends BlockEntity
 	private TRContent.Cables cableType = null;
 	@Nullable
 	private BlockState cover = null;
-	long lastTick = 0;
+	long lastBuild = 0;
+	/**
+	 * The network this cable belongs to, or null if it needs to be built.
+	 * While set, the energy of this cable is pooled in the network.
+	 */
+	@Nullable
+	CableNetwork network = null;
 	// null means that it needs to be re-queried
 	List<CableTarget> targets = null;
 	/**
@@ -91,17 +99,16 @@ public class CableBlockEntity extends BlockEntity
 	 */
 	@SuppressWarnings("unchecked")
 	private final BlockApiCache<EnergyStorage, Direction>[] adjacentCaches = new BlockApiCache[6];
+	/**
+	 * Side storages exposed to other blocks, index 6 is the null side.
+	 */
+	private final EnergyStorage[] sideStorages = new EnergyStorage[7];
 	/**
 	 * Bitmask to prevent input or output into/from the cable when the cable already transferred in the target direction.
 	 * This prevents double transfer rates, and back and forth between two cables.
 	 */
 	int blockedSides = 0;
 
-	/**
-	 * This is only used during the cable tick, whereas {@link #blockedSides} is used between ticks.
-	 */
-	boolean ioBlocked = false;
-
 	public CableBlockEntity(BlockPos pos, BlockState state) {
 		super(TRBlockEntities.CABLE, pos, state);
 	}
@@ -131,11 +138,20 @@ public class CableBlockEntity extends BlockEntity
 			return true;
 		}
 
-		return !ioBlocked && (blockedSides & (1 << side.ordinal())) == 0;
+		// The network blocks any cable I/O during its tick, whereas blockedSides is used between ticks.
+		if (network != null && network.ioBlocked) {
+			return false;
+		}
+
+		return (blockedSides & (1 << side.ordinal())) == 0;
 	}
 
 	public EnergyStorage getSideEnergyStorage(@Nullable Direction side) {
-		return energyContainer.getSideStorage(side);
+		int index = side == null ? 6 : side.getId();
+		if (sideStorages[index] == null) {
+			sideStorages[index] = new CableSideStorage(side);
+		}
+		return sideStorages[index];
 	}
 
 	public @Nullable BlockState getCover() {
@@ -150,11 +166,18 @@ public class CableBlockEntity extends BlockEntity
 	}
 
 	public long getEnergy() {
+		if (network != null) {
+			return network.getShare();
+		}
 		return energyContainer.amount;
 	}
 
 	public void setEnergy(long energy) {
-		energyContainer.amount = energy;
+		if (network != null) {
+			network.amount = Math.max(0, network.amount + energy - network.getShare());
+		} else {
+			energyContainer.amount = energy;
+		}
 	}
 
 	private BlockApiCache<EnergyStorage, Direction> getAdjacentCache(Direction direction) {
@@ -169,13 +192,17 @@ public class CableBlockEntity extends BlockEntity
 		return getAdjacentCache(direction).getBlockEntity();
 	}
 
-	void appendTargets(List<OfferedEnergyStorage> targetStorages) {
+	/**
+	 * Update our targets if necessary.
+	 *
+	 * @return true if this cable has at least one target
+	 */
+	boolean updateTargets() {
 		ServerWorld serverWorld = (ServerWorld) world;
 		if (serverWorld == null) {
-			return;
+			return false;
 		}
 
-		// Update our targets if necessary.
 		if (targets == null) {
 			BlockState newBlockState = getCachedState();
 
@@ -201,6 +228,14 @@ public class CableBlockEntity extends BlockEntity
 			serverWorld.setBlockState(getPos(), newBlockState);
 		}
 
+		return !targets.isEmpty();
+	}
+
+	void appendTargets(List<OfferedEnergyStorage> targetStorages) {
+		if (targets == null) {
+			return;
+		}
+
 		// Fill the list.
 		for (CableTarget target : targets) {
 			EnergyStorage storage = target.find();
@@ -209,6 +244,9 @@ public class CableBlockEntity extends BlockEntity
 				// Schedule a rebuild next tick.
 				// This is just a reference change, the iterator remains valid.
 				targets = null;
+				if (network != null) {
+					network.targetsDirty = true;
+				}
 			} else {
 				targetStorages.add(new OfferedEnergyStorage(this, target.directionTo, storage));
 			}
@@ -235,7 +273,7 @@ public class CableBlockEntity extends BlockEntity
 	public void readNbt(NbtCompound compound, RegistryWrapper.WrapperLookup registryLookup) {
 		super.readNbt(compound, registryLookup);
 		if (compound.contains("energy")) {
-			energyContainer.amount = compound.getLong("energy");
+			setEnergy(compound.getLong("energy"));
 		}
 		if (compound.contains("cover")) {
 			cover = NbtHelper.toBlockState(WorldUtils.getBlockRegistryWrapper(world), compound.getCompound("cover"));
@@ -247,14 +285,33 @@ public class CableBlockEntity extends BlockEntity
 	@Override
 	public void writeNbt(NbtCompound compound, RegistryWrapper.WrapperLookup registryLookup) {
 		super.writeNbt(compound, registryLookup);
-		compound.putLong("energy", energyContainer.amount);
+		compound.putLong("energy", getEnergy());
 		if (cover != null) {
 			compound.put("cover", NbtHelper.fromBlockState(cover));
 		}
 	}
 
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+		if (network != null) {
+			network.invalidate();
+		}
+	}
+
+	@Override
+	public void cancelRemoval() {
+		super.cancelRemoval();
+		if (world instanceof ServerWorld) {
+			CableTickManager.onCableLoaded(this);
+		}
+	}
+
 	public void neighborUpdate() {
 		targets = null;
+		if (network != null) {
+			network.targetsDirty = true;
+		}
 	}
 
 	// BlockEntityTicker
@@ -305,6 +362,62 @@ public class CableBlockEntity extends BlockEntity
 		return cover;
 	}
 
+	/**
+	 * Side storage that goes through the network while the cable is part of one.
+	 */
+	private class CableSideStorage implements EnergyStorage {
+		@Nullable
+		private final Direction side;
+
+		CableSideStorage(@Nullable Direction side) {
+			this.side = side;
+		}
+
+		@Override
+		public boolean supportsInsertion() {
+			return allowTransfer(side);
+		}
+
+		@Override
+		public long insert(long maxAmount, TransactionContext transaction) {
+			StoragePreconditions.notNegative(maxAmount);
+			if (network == null) {
+				return energyContainer.getSideStorage(side).insert(maxAmount, transaction);
+			}
+			if (!allowTransfer(side)) {
+				return 0;
+			}
+			return network.insert(Math.min(maxAmount, getCableType().transferRate), transaction);
+		}
+
+		@Override
+		public boolean supportsExtraction() {
+			return allowTransfer(side);
+		}
+
+		@Override
+		public long extract(long maxAmount, TransactionContext transaction) {
+			StoragePreconditions.notNegative(maxAmount);
+			if (network == null) {
+				return energyContainer.getSideStorage(side).extract(maxAmount, transaction);
+			}
+			if (!allowTransfer(side)) {
+				return 0;
+			}
+			return network.extract(Math.min(maxAmount, getCableType().transferRate), transaction);
+		}
+
+		@Override
+		public long getAmount() {
+			return getEnergy();
+		}
+
+		@Override
+		public long getCapacity() {
+			return energyContainer.getCapacity();
+		}
+	}
+
 	private record CableTarget(Direction directionTo, BlockApiCache<EnergyStorage, Direction> cache) {
 
 		@Nullable
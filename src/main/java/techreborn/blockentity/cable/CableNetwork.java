@@ -0,0 +1,210 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.blockentity.cable;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+import net.fabricmc.fabric.api.transfer.v1.transaction.base.SnapshotParticipant;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A group of connected cables sharing the same transfer rate.
+ *
+ * <p>The network is built once by {@link CableTickManager} and kept until a cable is added to or removed from it.
+ * The energy of all cables is pooled in {@link #amount}, so a steady-state tick only has to visit the cached targets.
+ */
+class CableNetwork extends SnapshotParticipant<Long> {
+	final List<CableBlockEntity> cables;
+	final long transferRate;
+	/**
+	 * The lowest cable position, identifies the network independently of the cable that built or ticked it.
+	 */
+	final BlockPos anchor;
+	/**
+	 * Cables that have at least one non-cable energy storage next to them.
+	 */
+	private final List<CableBlockEntity> targetCables = new ArrayList<>();
+	/**
+	 * One cable per chunk, used to mark the chunks dirty when the pooled energy changes.
+	 */
+	private final List<CableBlockEntity> chunkRepresentatives = new ArrayList<>();
+	long amount = 0;
+	long lastTick = -1;
+	private long lastSavedAmount = -1;
+	private boolean valid = true;
+	/**
+	 * Set when the targets of one of the cables need to be queried again.
+	 */
+	boolean targetsDirty = true;
+	/**
+	 * Blocks any cable I/O while the network accesses {@link #amount} directly.
+	 */
+	boolean ioBlocked = false;
+
+	CableNetwork(List<CableBlockEntity> cables, long transferRate) {
+		this.cables = cables;
+		this.transferRate = transferRate;
+
+		LongSet chunks = new LongOpenHashSet();
+		BlockPos lowest = null;
+		for (CableBlockEntity cable : cables) {
+			if (lowest == null || cable.getPos().compareTo(lowest) < 0) {
+				lowest = cable.getPos();
+			}
+			if (cable.network != null) {
+				cable.network.dissolve();
+			}
+			if (chunks.add(ChunkPos.toLong(cable.getPos()))) {
+				chunkRepresentatives.add(cable);
+			}
+		}
+		anchor = lowest;
+
+		for (CableBlockEntity cable : cables) {
+			amount += cable.energyContainer.amount;
+			cable.energyContainer.amount = 0;
+			cable.network = this;
+		}
+	}
+
+	boolean isValid() {
+		return valid;
+	}
+
+	/**
+	 * Schedule a rebuild of this network. The pooled energy stays here until {@link #dissolve()} is called.
+	 */
+	void invalidate() {
+		valid = false;
+	}
+
+	/**
+	 * Give the pooled energy back to the individual cables and detach them from this network.
+	 */
+	void dissolve() {
+		valid = false;
+
+		long remaining = amount;
+		int cableCount = cables.size();
+		for (CableBlockEntity cable : cables) {
+			cable.energyContainer.amount = remaining / cableCount;
+			remaining -= cable.energyContainer.amount;
+			cableCount--;
+			if (cable.network == this) {
+				cable.network = null;
+			}
+			if (!cable.isRemoved()) {
+				cable.markDirty();
+			}
+		}
+		amount = 0;
+	}
+
+	long getCapacity() {
+		return transferRate * 4 * cables.size();
+	}
+
+	/**
+	 * @return the part of the pooled energy attributed to a single cable
+	 */
+	long getShare() {
+		return amount / cables.size();
+	}
+
+	long insert(long maxAmount, TransactionContext transaction) {
+		long inserted = Math.min(maxAmount, getCapacity() - amount);
+
+		if (inserted > 0) {
+			updateSnapshots(transaction);
+			amount += inserted;
+			return inserted;
+		}
+
+		return 0;
+	}
+
+	long extract(long maxAmount, TransactionContext transaction) {
+		long extracted = Math.min(maxAmount, amount);
+
+		if (extracted > 0) {
+			updateSnapshots(transaction);
+			amount -= extracted;
+			return extracted;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Fill the list with the energy storages next to this network, re-querying the cable targets if necessary.
+	 */
+	void appendTargets(List<OfferedEnergyStorage> targetStorages) {
+		if (targetsDirty) {
+			targetsDirty = false;
+			targetCables.clear();
+
+			for (CableBlockEntity cable : cables) {
+				cable.blockedSides = 0;
+				if (cable.updateTargets()) {
+					targetCables.add(cable);
+				}
+			}
+		}
+
+		for (CableBlockEntity cable : targetCables) {
+			cable.appendTargets(targetStorages);
+		}
+	}
+
+	/**
+	 * Mark the chunks of this network for saving if the pooled energy changed.
+	 */
+	void markDirty(World world) {
+		if (amount == lastSavedAmount) {
+			return;
+		}
+
+		lastSavedAmount = amount;
+		for (CableBlockEntity cable : chunkRepresentatives) {
+			world.markDirty(cable.getPos());
+		}
+	}
+
+	@Override
+	protected Long createSnapshot() {
+		return amount;
+	}
+
+	@Override
+	protected void readSnapshot(Long snapshot) {
+		amount = snapshot;
+	}
+}
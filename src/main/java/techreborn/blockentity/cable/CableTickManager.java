@@ -24,12 +24,13 @@
 
 package techreborn.blockentity.cable;
 
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Direction;
+import reborncore.common.powerSystem.EnergyProfiler;
 import team.reborn.energy.api.EnergyStorage;
-import techreborn.init.TRContent;
 
 import java.util.*;
 
@@ -37,97 +38,140 @@ class CableTickManager {
 	private static final List<CableBlockEntity> cableList = new ArrayList<>();
 	private static final List<OfferedEnergyStorage> targetStorages = new ArrayList<>();
 	private static final Deque<CableBlockEntity> bfsQueue = new ArrayDeque<>();
+	/**
+	 * Cables that were loaded or placed since the last tick, and that might connect existing networks.
+	 */
+	private static final List<CableBlockEntity> loadedCables = new ArrayList<>();
 	private static long tickCounter = 0;
+	private static long buildCounter = 0;
 
 	static {
-		ServerTickEvents.START_SERVER_TICK.register(server -> tickCounter++);
+		ServerTickEvents.START_SERVER_TICK.register(server -> {
+			tickCounter++;
+			mergeLoadedCables();
+		});
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> loadedCables.clear());
 	}
 
 	static void handleCableTick(CableBlockEntity startingCable) {
-		if (!(startingCable.getWorld() instanceof ServerWorld)) throw new IllegalStateException();
+		if (!(startingCable.getWorld() instanceof ServerWorld world)) throw new IllegalStateException();
+
+		CableNetwork network = startingCable.network;
+		if (network == null || !network.isValid()) {
+			if (!shouldIncludeCable(startingCable)) return;
+			network = buildNetwork(startingCable);
+		}
+
+		// Make sure we only tick each network once per tick.
+		if (network.lastTick == tickCounter) return;
+		network.lastTick = tickCounter;
+
+		final boolean profile = EnergyProfiler.isEnabled();
+		final long start = profile ? System.nanoTime() : 0;
+		long moved = 0;
 
 		try {
-			gatherCables(startingCable);
-			if (cableList.isEmpty()) return;
-
-			// Group all energy into the network.
-			long networkCapacity = 0;
-			long networkAmount = 0;
-
-			for (CableBlockEntity cable : cableList) {
-				networkAmount += cable.energyContainer.amount;
-				networkCapacity += cable.energyContainer.getCapacity();
-
-				// Update cable connections.
-				cable.appendTargets(targetStorages);
-				// Block any cable I/O while we access the network amount directly.
-				// Some things might try to access cables, for example a p2p tunnel pointing back at a cable.
-				// If the cables and the network go out of sync, we risk duping or voiding energy.
-				cable.ioBlocked = true;
-			}
+			network.appendTargets(targetStorages);
 
+			long networkCapacity = network.getCapacity();
 			// Just in case.
-			if (networkAmount > networkCapacity) {
-				networkAmount = networkCapacity;
+			if (network.amount > networkCapacity) {
+				network.amount = networkCapacity;
 			}
+			if (targetStorages.isEmpty()) return;
+
+			// Block any cable I/O while we access the network amount directly.
+			// Some things might try to access cables, for example a p2p tunnel pointing back at a cable.
+			// If the cables and the network go out of sync, we risk duping or voiding energy.
+			network.ioBlocked = true;
 
 			// Pull energy from storages.
-			networkAmount += dispatchTransfer(startingCable.getCableType(), EnergyStorage::extract, networkCapacity - networkAmount);
+			long extracted = dispatchTransfer(network.transferRate, EnergyStorage::extract, networkCapacity - network.amount);
+			network.amount += extracted;
 			// Push energy into storages.
-			networkAmount -= dispatchTransfer(startingCable.getCableType(), EnergyStorage::insert, networkAmount);
-
-			// Split energy evenly across cables.
-			int cableCount = cableList.size();
-			for (CableBlockEntity cable : cableList) {
-				cable.energyContainer.amount = networkAmount / cableCount;
-				networkAmount -= cable.energyContainer.amount;
-				cableCount--;
-				cable.markDirty();
-				cable.ioBlocked = false;
-			}
+			long inserted = dispatchTransfer(network.transferRate, EnergyStorage::insert, network.amount);
+			network.amount -= inserted;
+			// Only count the delivered energy, so energy passing through the network is counted once
+			moved = inserted;
 		} finally {
-			cableList.clear();
+			network.ioBlocked = false;
+			network.markDirty(world);
 			targetStorages.clear();
-			bfsQueue.clear();
+			if (profile) {
+				EnergyProfiler.recordNetworkTick(world, network.anchor, network.cables.size(), System.nanoTime() - start, moved);
+			}
 		}
 	}
 
-	private static boolean shouldTickCable(CableBlockEntity current) {
-		// Make sure we only gather and tick each cable once per tick.
-		if (current.lastTick == tickCounter) return false;
-		// Make sure we ignore cables in non-ticking chunks.
-		return current.getWorld() instanceof ServerWorld sw && sw.isChunkLoaded(current.getPos());
+	static void onCableLoaded(CableBlockEntity cable) {
+		loadedCables.add(cable);
 	}
 
 	/**
-	 * Perform a BFS to gather all connected ticking cables.
+	 * Invalidate the networks next to freshly loaded cables, so that they get rebuilt including the new cable.
 	 */
-	private static void gatherCables(CableBlockEntity start) {
-		if (!shouldTickCable(start)) return;
+	private static void mergeLoadedCables() {
+		for (CableBlockEntity cable : loadedCables) {
+			if (cable.isRemoved() || !(cable.getWorld() instanceof ServerWorld world)) continue;
+
+			for (Direction direction : Direction.values()) {
+				if (!world.isChunkLoaded(cable.getPos().offset(direction))) continue;
 
-		bfsQueue.add(start);
-		start.lastTick = tickCounter;
-		cableList.add(start);
+				if (cable.getAdjacentBlockEntity(direction) instanceof CableBlockEntity adjCable
+						&& adjCable.network != null
+						&& cable.getCableType().transferRate == adjCable.getCableType().transferRate) {
+					adjCable.network.invalidate();
+				}
+			}
+		}
+		loadedCables.clear();
+	}
 
-		while (!bfsQueue.isEmpty()) {
-			CableBlockEntity current = bfsQueue.removeFirst();
+	private static boolean shouldIncludeCable(CableBlockEntity current) {
+		// Make sure we ignore removed cables and cables in non-ticking chunks.
+		return !current.isRemoved() && current.getWorld() instanceof ServerWorld sw && sw.isChunkLoaded(current.getPos());
+	}
 
-			for (Direction direction : Direction.values()) {
-				if (current.getAdjacentBlockEntity(direction) instanceof CableBlockEntity adjCable && current.getCableType().transferRate == adjCable.getCableType().transferRate) {
-					if (shouldTickCable(adjCable)) {
-						bfsQueue.add(adjCable);
-						adjCable.lastTick = tickCounter;
-						cableList.add(adjCable);
+	/**
+	 * Perform a BFS to gather all connected cables, and group them into a new network.
+	 */
+	private static CableNetwork buildNetwork(CableBlockEntity start) {
+		long buildId = ++buildCounter;
+		ServerWorld world = (ServerWorld) start.getWorld();
+
+		try {
+			bfsQueue.add(start);
+			start.lastBuild = buildId;
+			cableList.add(start);
+
+			while (!bfsQueue.isEmpty()) {
+				CableBlockEntity current = bfsQueue.removeFirst();
+
+				for (Direction direction : Direction.values()) {
+					// Don't load chunks while looking for cables.
+					if (!world.isChunkLoaded(current.getPos().offset(direction))) continue;
+
+					if (current.getAdjacentBlockEntity(direction) instanceof CableBlockEntity adjCable && current.getCableType().transferRate == adjCable.getCableType().transferRate) {
+						if (adjCable.lastBuild != buildId && shouldIncludeCable(adjCable)) {
+							bfsQueue.add(adjCable);
+							adjCable.lastBuild = buildId;
+							cableList.add(adjCable);
+						}
 					}
 				}
 			}
+
+			return new CableNetwork(new ArrayList<>(cableList), start.getCableType().transferRate);
+		} finally {
+			cableList.clear();
+			bfsQueue.clear();
 		}
 	}
 
 	/**
 	 * Perform a transfer operation across a list of targets.
 	 */
-	private static long dispatchTransfer(TRContent.Cables cableType, TransferOperation operation, long maxAmount) {
+	private static long dispatchTransfer(long transferRate, TransferOperation operation, long maxAmount) {
 		// Build target list.
 		List<SortableStorage> sortedTargets = new ArrayList<>();
 		for (var storage : targetStorages) {
@@ -145,7 +189,7 @@ class CableTickManager {
 				int remainingTargets = sortedTargets.size() - i;
 				long remainingAmount = maxAmount - transferredAmount;
 				// Limit max amount to the cable transfer rate.
-				long targetMaxAmount = Math.min(remainingAmount / remainingTargets, cableType.transferRate);
+				long targetMaxAmount = Math.min(remainingAmount / remainingTargets, transferRate);
 
 				long localTransferred = operation.transfer(target.storage.storage(), targetMaxAmount, transaction);
 				if (localTransferred > 0) {
@@ -24,6 +24,7 @@
 
 package techreborn.blockentity.generator;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.fluid.Fluid;
@@ -38,7 +39,7 @@ import org.jetbrains.annotations.Nullable;
 import reborncore.api.IToolDrop;
 import reborncore.api.blockentity.InventoryProvider;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
-import reborncore.common.blocks.BlockMachineBase;
+import reborncore.common.crafting.RecipeIndex;
 import reborncore.common.crafting.RecipeUtils;
 import reborncore.common.fluid.FluidUtils;
 import reborncore.common.fluid.FluidValue;
@@ -47,7 +48,10 @@ import reborncore.common.util.RebornInventory;
 import reborncore.common.util.Tank;
 import techreborn.recipe.recipes.FluidGeneratorRecipe;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 public abstract class BaseFluidGeneratorBlockEntity extends PowerAcceptorBlockEntity implements IToolDrop, InventoryProvider {
 	private final int euTick;
@@ -61,9 +65,29 @@ public abstract class BaseFluidGeneratorBlockEntity extends PowerAcceptorBlockEn
 	/*
 	 * We use this to keep track of fractional fluid units, allowing us to hit
 	 * our eu/bucket targets while still only ever removing integer fluid unit
-	 * amounts.
+	 * amounts. Stored in droplets multiplied by the EU per bucket of the current
+	 * recipe, so the division is exact.
 	 */
-	double pendingWithdraw = 0.0;
+	long pendingWithdraw = 0;
+	private final Predicate<Fluid> hasRecipe = fluid -> getRecipeForFluid(fluid) != null;
+
+	// Client and server have their own recipe managers, and only touch their own map.
+	private static final Map<RecipeType<?>, FluidRecipes> SERVER_FLUID_RECIPES = new HashMap<>();
+	private static final Map<RecipeType<?>, FluidRecipes> CLIENT_FLUID_RECIPES = new HashMap<>();
+
+	/**
+	 * Fluid lookup for the recipes of one generator type, built from the recipe index it belongs to.
+	 */
+	private record FluidRecipes(RecipeIndex<FluidGeneratorRecipe> index, Map<Fluid, FluidGeneratorRecipe> byFluid) {
+		static FluidRecipes of(RecipeIndex<FluidGeneratorRecipe> index) {
+			Map<Fluid, FluidGeneratorRecipe> byFluid = new Reference2ObjectOpenHashMap<>();
+			for (FluidGeneratorRecipe recipe : index.getRecipes()) {
+				// Keep the first recipe for a fluid, like the linear search did
+				byFluid.putIfAbsent(recipe.getFluid(), recipe);
+			}
+			return new FluidRecipes(index, byFluid);
+		}
+	}
 
 	public BaseFluidGeneratorBlockEntity(BlockEntityType<?> blockEntityType, BlockPos pos, BlockState state, RecipeType<FluidGeneratorRecipe> type, String blockEntityName, FluidValue tankCapacity, int euTick) {
 		super(blockEntityType, pos, state);
@@ -88,7 +112,7 @@ public abstract class BaseFluidGeneratorBlockEntity extends PowerAcceptorBlockEn
 		if (ticksSinceLastChange >= 10) {
 			ItemStack inputStack = inventory.getStack(0);
 			if (!inputStack.isEmpty()) {
-				if (FluidUtils.containsMatchingFluid(inputStack, f -> getRecipeForFluid(f) != null)) {
+				if (FluidUtils.containsMatchingFluid(inputStack, hasRecipe)) {
 					FluidUtils.drainContainers(tank, inventory, 0, 1);
 				} else {
 					FluidUtils.fillContainers(tank, inventory, 0, 1);
@@ -98,30 +122,30 @@ public abstract class BaseFluidGeneratorBlockEntity extends PowerAcceptorBlockEn
 			ticksSinceLastChange = 0;
 		}
 
-		if (!tank.getFluidAmount().isEmpty()) {
-			if (currentRecipe == null || !FluidUtils.fluidEquals(currentRecipe.getFluid(), tank.getFluid()))
+		if (tank.getAmount() > 0) {
+			if (currentRecipe == null || !FluidUtils.fluidEquals(currentRecipe.getFluid(), tank.getFluid())) {
 				currentRecipe = getRecipeForFluid(tank.getFluid());
+				pendingWithdraw = 0;
+			}
 
 			if (currentRecipe != null) {
-				final int euPerBucket = currentRecipe.power() * 1000;
-
-				// Make sure to calculate the fluid used per tick based on the underlying fluid unit (droplets)
-				final float fluidPerTick = (euTick / (euPerBucket / (float)FluidValue.BUCKET.getRawValue()));
+				final long euPerBucket = currentRecipe.power() * 1000L;
 
 				if (tryAddingEnergy(euTick)) {
-					pendingWithdraw += fluidPerTick;
-					final int currentWithdraw = (int) pendingWithdraw;
-					pendingWithdraw -= currentWithdraw;
-					tank.modifyFluid(fluidInstance -> fluidInstance.subtractAmount(FluidValue.fromRaw(currentWithdraw)));
+					// Fluid used per tick is euTick * BUCKET / euPerBucket droplets, the remainder carries over
+					pendingWithdraw += euTick * FluidValue.BUCKET.getRawValue();
+					final long currentWithdraw = pendingWithdraw / euPerBucket;
+					pendingWithdraw -= currentWithdraw * euPerBucket;
+					tank.drain(currentWithdraw);
 					lastOutput = world.getTime();
 				}
 			}
 		}
 
-		if (world.getTime() - lastOutput < 30 && !isActive()) {
-			world.setBlockState(pos, world.getBlockState(pos).with(BlockMachineBase.ACTIVE, true));
-		} else if (world.getTime() - lastOutput > 30 && isActive()) {
-			world.setBlockState(pos, world.getBlockState(pos).with(BlockMachineBase.ACTIVE, false));
+		if (world.getTime() - lastOutput < 30) {
+			setActive(true);
+		} else if (world.getTime() - lastOutput > 30) {
+			setActive(false);
 		}
 	}
 
@@ -147,13 +171,19 @@ public abstract class BaseFluidGeneratorBlockEntity extends PowerAcceptorBlockEn
 
 	@Nullable
 	public FluidGeneratorRecipe getRecipeForFluid(Fluid fluid) {
-		for (FluidGeneratorRecipe recipe : getRecipes()) {
-			if (recipe.getFluid() == fluid) {
-				return recipe;
-			}
+		if (world == null) {
+			return null;
 		}
 
-		return null;
+		Map<RecipeType<?>, FluidRecipes> cache = world.isClient ? CLIENT_FLUID_RECIPES : SERVER_FLUID_RECIPES;
+		// The recipe index is replaced when recipes are reloaded, rebuild the fluid map along with it
+		RecipeIndex<FluidGeneratorRecipe> index = RecipeUtils.getRecipeIndex(world, recipeType);
+		FluidRecipes recipes = cache.get(recipeType);
+		if (recipes == null || recipes.index() != index) {
+			recipes = FluidRecipes.of(index);
+			cache.put(recipeType, recipes);
+		}
+		return recipes.byFluid().get(fluid);
 	}
 
 	@Override
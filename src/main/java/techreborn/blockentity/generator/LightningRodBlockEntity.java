@@ -38,7 +38,6 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
 import reborncore.api.IToolDrop;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
-import reborncore.common.blocks.BlockMachineBase;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRBlockEntities;
@@ -64,13 +63,8 @@ public class LightningRodBlockEntity extends PowerAcceptorBlockEntity implements
 			--onStatusHoldTicks;
 		}
 
-		Block BEBlock = getCachedState().getBlock();
-		if (!(BEBlock instanceof BlockMachineBase machineBaseBlock)) {
-			return;
-		}
-
 		if (onStatusHoldTicks == 0 || getEnergy() <= 0) {
-			machineBaseBlock.setActive(false, world, pos);
+			setActive(false);
 			onStatusHoldTicks = -1;
 		}
 
@@ -89,7 +83,7 @@ public class LightningRodBlockEntity extends PowerAcceptorBlockEntity implements
 				lightningBolt.refreshPositionAfterTeleport(Vec3d.ofBottomCenter(world.getTopPosition(Heightmap.Type.MOTION_BLOCKING, getPos())));
 				world.spawnEntity(lightningBolt);
 				addEnergy((long) (TechRebornConfig.lightningRodBaseEnergyStrike * (0.3F + weatherStrength)));
-				machineBaseBlock.setActive(true, world, pos);
+				setActive(true);
 				onStatusHoldTicks = 400;
 			}
 		}
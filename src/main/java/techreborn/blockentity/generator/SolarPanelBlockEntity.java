@@ -26,11 +26,9 @@ package techreborn.blockentity.generator;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
-import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
-import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
@@ -40,7 +38,6 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
 import reborncore.api.IToolDrop;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
-import reborncore.common.blocks.BlockMachineBase;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import reborncore.common.powerSystem.PowerSystem;
 import reborncore.common.powerSystem.RcEnergyTier;
@@ -60,11 +57,13 @@ public class SolarPanelBlockEntity extends PowerAcceptorBlockEntity implements I
 
 	private boolean generating = false;
 
-	// Range of panel between day/night production; we calculate this only when panel is updated
-	private int dayNightRange = 0;
-
 	private SolarPanels panel;
 
+	private boolean registered = false;
+
+	// Neighbours filled by the creative panel, refreshed every 20 ticks instead of looked up every tick
+	private final PowerAcceptorBlockEntity[] creativeTargets = new PowerAcceptorBlockEntity[Direction.values().length];
+
 	public SolarPanelBlockEntity(BlockPos pos, BlockState state) {
 		super(TRBlockEntities.SOLAR_PANEL, pos, state);
 	}
@@ -81,20 +80,18 @@ public class SolarPanelBlockEntity extends PowerAcceptorBlockEntity implements I
 		if (panelBlock instanceof BlockSolarPanel solarPanelBlock) {
 			panel = solarPanelBlock.panelType;
 		}
-
-		dayNightRange = getPanel().generationRateD - getPanel().generationRateN;
 	}
 
 	// Setters/getters that provide boolean interface to underlying generating int; something about
 	// screen auto-sync REQUIRES an integer value (booleans don't get transmitted?!), so resorted to
 	// this ugly approach
 	public boolean isGenerating() { return generating; }
-	private void setIsGenerating(boolean isGenerating) {
+	void setIsGenerating(boolean isGenerating) {
 		Objects.requireNonNull(world, "World may not be null.");
 
 		if (isGenerating != isGenerating()) {
 			// Update block state if necessary
-			world.setBlockState(pos, world.getBlockState(pos).with(BlockMachineBase.ACTIVE, isGenerating));
+			setActive(isGenerating);
 		}
 		this.generating = isGenerating;
 	}
@@ -106,13 +103,6 @@ public class SolarPanelBlockEntity extends PowerAcceptorBlockEntity implements I
 		return panel;
 	}
 
-	private void updateState() {
-		Objects.requireNonNull(world, "World may not be null.");
-
-		// Generation is only possible if sky is visible above us
-		setIsGenerating(world.isSkyVisible(pos.up()));
-	}
-
 	public int getGenerationRate() {
 		Objects.requireNonNull(world, "World may not be null.");
 
@@ -120,29 +110,18 @@ public class SolarPanelBlockEntity extends PowerAcceptorBlockEntity implements I
 			return 0;
 		}
 
-		float skyAngle = world.getSkyAngle(0);
-
-		// Ok, we are actively generating power, but check for a few conditions that would restrict
-		// the generation to minimal production...
-		if (!world.getDimension().hasSkyLight() || // No light source in dimension (e.g. nether or end)
-			(skyAngle > 0.25 && skyAngle < 0.75) || // Light source is below horizon
-			(world.isRaining() || world.isThundering())) { // Weather is present
-			return getPanel().generationRateN;
-		}
+		return SolarPanelManager.getGenerationRate(getPanel(), SolarPanelManager.getDaylight(world));
+	}
 
-		// At this point, we know a light source is present, and it's clear weather. We need to determine
-		// the level of generation based on % of time through the day, with peak production at noon and
-		// a smooth transition to night production as sun rises/sets
-		float multiplier;
-		if (skyAngle > 0.75) {
-			// Morning to noon
-			multiplier = (0.25f - (1 - skyAngle)) / 0.25f;
-		} else {
-			// Noon to sunset
-			multiplier = (0.25f - skyAngle) / 0.25f;
+	private void updateCreativeTargets(World world) {
+		for (Direction side : Direction.values()) {
+			PowerAcceptorBlockEntity target = null;
+			if (world.getBlockEntity(pos.offset(side)) instanceof PowerAcceptorBlockEntity receiver
+				&& receiver.getMaxInput(side.getOpposite()) > 0) {
+				target = receiver;
+			}
+			creativeTargets[side.ordinal()] = target;
 		}
-
-		return (int)Math.ceil(getPanel().generationRateN + (dayNightRange * multiplier));
 	}
 
 
@@ -158,25 +137,21 @@ public class SolarPanelBlockEntity extends PowerAcceptorBlockEntity implements I
 		if (getPanel() == TRContent.SolarPanels.CREATIVE) {
 			checkOverfill = false;
 			setEnergy(Integer.MAX_VALUE);
-			for (Direction side : Direction.values()) {
-				BlockEntity to = world.getBlockEntity(pos.offset(side));
-				if (to instanceof PowerAcceptorBlockEntity receiver) {
-					if (receiver.getMaxInput(side.getOpposite()) > 0){
-						receiver.setStored(receiver.getMaxStoredPower());
-					}
+			if (world.getTime() % 20 == 0) {
+				updateCreativeTargets(world);
+			}
+			for (PowerAcceptorBlockEntity receiver : creativeTargets) {
+				if (receiver != null && !receiver.isRemoved()) {
+					receiver.setStored(receiver.getMaxStoredPower());
 				}
 			}
 			return;
 		}
 
-		// State checking and updating
+		// Sky visibility and generation are handled per chunk by SolarPanelManager
 		if (world.getTime() % 20 == 0) {
 			checkOverfill = true;
-			updateState();
 		}
-
-		// Power generation calculations
-		addEnergy(getGenerationRate());
 	}
 
 	@Override
@@ -284,6 +259,31 @@ public class SolarPanelBlockEntity extends PowerAcceptorBlockEntity implements I
 	public void onLoad() {
 		super.onLoad();
 		updatePanel();
+		if (world != null && !world.isClient && getPanel() == SolarPanels.CREATIVE) {
+			updateCreativeTargets(world);
+		}
+		if (!registered) {
+			registered = true;
+			SolarPanelManager.add(this);
+		}
+	}
+
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+		if (registered) {
+			registered = false;
+			SolarPanelManager.remove(this);
+		}
+	}
+
+	@Override
+	public void cancelRemoval() {
+		super.cancelRemoval();
+		if (!registered && world != null) {
+			registered = true;
+			SolarPanelManager.add(this);
+		}
 	}
 
 	// IToolDrop
@@ -296,7 +296,7 @@ public class SolarPanelBlockEntity extends PowerAcceptorBlockEntity implements I
 	public BuiltScreenHandler createScreenHandler(int syncID, final PlayerEntity player) {
 		return new ScreenHandlerBuilder("solar_panel").player(player.getInventory()).inventory().hotbar().addInventory()
 				.blockEntity(this).syncEnergyValue()
-				.sync(PacketCodecs.BOOL, this::isGenerating, this::setIsGenerating)
+				.syncBoolean(this::isGenerating, this::setIsGenerating)
 				.addInventory().create(this, syncID);
 	}
 }
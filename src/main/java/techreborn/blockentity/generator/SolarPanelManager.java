@@ -0,0 +1,170 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package techreborn.blockentity.generator;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+import net.minecraft.world.chunk.light.ChunkSkyLight;
+import techreborn.init.TRContent.SolarPanels;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Drives solar generation per chunk instead of per panel.
+ *
+ * <p>Panels register themselves when they load and are grouped by chunk. Once per tick the daylight
+ * model is evaluated for the whole world and turned into one generation rate per panel tier. Sky
+ * visibility is read from the chunk's sky light sources, the heightmap the lighting engine keeps up to
+ * date on every block change, so a roof placed above a panel is picked up on the next refresh without
+ * a light lookup per panel.</p>
+ */
+public final class SolarPanelManager {
+	private static final Map<World, Long2ObjectMap<List<SolarPanelBlockEntity>>> PANELS = new HashMap<>();
+	private static final SolarPanels[] TIERS = SolarPanels.values();
+	private static final int VISIBILITY_INTERVAL = 20;
+
+	static {
+		ServerTickEvents.END_WORLD_TICK.register(SolarPanelManager::tick);
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> PANELS.clear());
+	}
+
+	private SolarPanelManager() {
+	}
+
+	static void add(SolarPanelBlockEntity panel) {
+		World world = panel.getWorld();
+		if (world == null || world.isClient) {
+			return;
+		}
+		PANELS.computeIfAbsent(world, w -> new Long2ObjectOpenHashMap<>())
+				.computeIfAbsent(ChunkPos.toLong(panel.getPos()), l -> new ArrayList<>())
+				.add(panel);
+	}
+
+	static void remove(SolarPanelBlockEntity panel) {
+		World world = panel.getWorld();
+		if (world == null || world.isClient) {
+			return;
+		}
+		Long2ObjectMap<List<SolarPanelBlockEntity>> byChunk = PANELS.get(world);
+		if (byChunk == null) {
+			return;
+		}
+		long chunk = ChunkPos.toLong(panel.getPos());
+		List<SolarPanelBlockEntity> panels = byChunk.get(chunk);
+		if (panels != null && panels.remove(panel) && panels.isEmpty()) {
+			byChunk.remove(chunk);
+		}
+	}
+
+	private static void tick(ServerWorld world) {
+		Long2ObjectMap<List<SolarPanelBlockEntity>> byChunk = PANELS.get(world);
+		if (byChunk == null || byChunk.isEmpty()) {
+			return;
+		}
+
+		float daylight = getDaylight(world);
+		int[] rates = new int[TIERS.length];
+		for (SolarPanels tier : TIERS) {
+			rates[tier.ordinal()] = getGenerationRate(tier, daylight);
+		}
+		boolean refreshVisibility = world.getTime() % VISIBILITY_INTERVAL == 0;
+		// Without sky light (e.g. nether or end) the sky is never visible
+		boolean hasSkyLight = world.getDimension().hasSkyLight();
+
+		for (Long2ObjectMap.Entry<List<SolarPanelBlockEntity>> entry : byChunk.long2ObjectEntrySet()) {
+			long chunkPos = entry.getLongKey();
+			WorldChunk chunk = world.getChunkManager().getWorldChunk(ChunkPos.getPackedX(chunkPos), ChunkPos.getPackedZ(chunkPos));
+			if (chunk == null) {
+				// Not at full status right now, panels are removed through markRemoved once the chunk really unloads
+				continue;
+			}
+			if (!world.shouldTickBlocksInChunk(chunkPos)) {
+				// Block entities in border chunks do not tick
+				continue;
+			}
+			ChunkSkyLight skyLight = chunk.getChunkSkyLight();
+
+			for (SolarPanelBlockEntity panel : entry.getValue()) {
+				SolarPanels tier = panel.getPanel();
+				if (tier == SolarPanels.CREATIVE) {
+					continue;
+				}
+				if (refreshVisibility) {
+					BlockPos pos = panel.getPos();
+					// Same as world.isSkyVisible(pos.up()), full sky light starts at the lowest source y
+					panel.setIsGenerating(hasSkyLight && pos.getY() + 1 >= skyLight.get(pos.getX() & 15, pos.getZ() & 15));
+				}
+				if (panel.isGenerating()) {
+					panel.addEnergy(rates[tier.ordinal()]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Evaluates the daylight model for a world.
+	 *
+	 * @param world {@link World} World to check
+	 * @return {@code float} How far along the transition from night to peak production the sun is, from 0 to 1,
+	 * or a negative value when only night production is possible
+	 */
+	public static float getDaylight(World world) {
+		float skyAngle = world.getSkyAngle(0);
+
+		// Check for a few conditions that would restrict the generation to minimal production...
+		if (!world.getDimension().hasSkyLight() || // No light source in dimension (e.g. nether or end)
+			(skyAngle > 0.25 && skyAngle < 0.75) || // Light source is below horizon
+			(world.isRaining() || world.isThundering())) { // Weather is present
+			return -1;
+		}
+
+		// At this point, we know a light source is present, and it's clear weather. We need to determine
+		// the level of generation based on % of time through the day, with peak production at noon and
+		// a smooth transition to night production as sun rises/sets
+		if (skyAngle > 0.75) {
+			// Morning to noon
+			return (0.25f - (1 - skyAngle)) / 0.25f;
+		}
+		// Noon to sunset
+		return (0.25f - skyAngle) / 0.25f;
+	}
+
+	static int getGenerationRate(SolarPanels panel, float daylight) {
+		if (daylight < 0) {
+			return panel.generationRateN;
+		}
+		return (int) Math.ceil(panel.generationRateN + ((panel.generationRateD - panel.generationRateN) * daylight));
+	}
+}
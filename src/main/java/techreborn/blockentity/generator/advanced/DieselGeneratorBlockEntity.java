@@ -27,7 +27,6 @@ package techreborn.blockentity.generator.advanced;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.util.math.BlockPos;
 import reborncore.common.fluid.FluidValue;
 import reborncore.common.screen.BuiltScreenHandler;
@@ -64,7 +63,7 @@ public class DieselGeneratorBlockEntity extends BaseFluidGeneratorBlockEntity im
 	public BuiltScreenHandler createScreenHandler(int syncID, final PlayerEntity player) {
 		return new ScreenHandlerBuilder("dieselgenerator").player(player.getInventory()).inventory().hotbar()
 				.addInventory().blockEntity(this).slot(0, 25, 35).outputSlot(1, 25, 55).syncEnergyValue()
-				.sync(PacketCodecs.INTEGER, this::getTicksSinceLastChange, this::setTicksSinceLastChange)
+				.syncInt(this::getTicksSinceLastChange, this::setTicksSinceLastChange)
 				.sync(FluidValue.PACKET_CODEC, this::getTankAmount, this::setTankAmount)
 				.sync(tank)
 				.addInventory().create(this, syncID);
@@ -35,7 +35,6 @@ import org.jetbrains.annotations.Nullable;
 import reborncore.api.IToolDrop;
 import reborncore.api.blockentity.InventoryProvider;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
-import reborncore.common.blocks.BlockMachineBase;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import reborncore.common.util.RebornInventory;
 import techreborn.config.TechRebornConfig;
@@ -75,10 +74,10 @@ public class DragonEggSyphonBlockEntity extends PowerAcceptorBlockEntity
 				lastOutput = world.getTime();
 		}
 
-		if (world.getTime() - lastOutput < 30 && !isActive()) {
-			world.setBlockState(pos, world.getBlockState(pos).with(BlockMachineBase.ACTIVE, true));
-		} else if (world.getTime() - lastOutput > 30 && isActive()) {
-			world.setBlockState(pos, world.getBlockState(pos).with(BlockMachineBase.ACTIVE, false));
+		if (world.getTime() - lastOutput < 30) {
+			setActive(true);
+		} else if (world.getTime() - lastOutput > 30) {
+			setActive(false);
 		}
 	}
 
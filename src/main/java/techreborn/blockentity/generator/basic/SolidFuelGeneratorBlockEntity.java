@@ -32,7 +32,6 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.nbt.NbtCompound;
-import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
@@ -42,7 +41,6 @@ import org.jetbrains.annotations.Nullable;
 import reborncore.api.IToolDrop;
 import reborncore.api.blockentity.InventoryProvider;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
-import reborncore.common.blocks.BlockMachineBase;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import reborncore.common.screen.BuiltScreenHandler;
 import reborncore.common.screen.BuiltScreenHandlerProvider;
@@ -81,13 +79,7 @@ public class SolidFuelGeneratorBlockEntity extends PowerAcceptorBlockEntity impl
 
 	private void updateState() {
 		assert world != null;
-		final BlockState BlockStateContainer = world.getBlockState(pos);
-		if (BlockStateContainer.getBlock() instanceof final BlockMachineBase blockMachineBase) {
-			boolean active = burnTime > 0 && getFreeSpace() > 0.0f;
-			if (BlockStateContainer.get(BlockMachineBase.ACTIVE) != active) {
-				blockMachineBase.setActive(active, world, pos);
-			}
-		}
+		setActive(burnTime > 0 && getFreeSpace() > 0.0f);
 	}
 
 
@@ -210,7 +202,7 @@ public class SolidFuelGeneratorBlockEntity extends PowerAcceptorBlockEntity impl
 	public BuiltScreenHandler createScreenHandler(int syncID, final PlayerEntity player) {
 		return new ScreenHandlerBuilder("generator").player(player.getInventory()).inventory().hotbar().addInventory()
 				.blockEntity(this).fuelSlot(0, 80, 54).energySlot(1, 8, 72).syncEnergyValue()
-				.sync(PacketCodecs.INTEGER, this::getBurnTime, this::setBurnTime)
-				.sync(PacketCodecs.INTEGER, this::getTotalBurnTime, this::setTotalBurnTime).addInventory().create(this, syncID);
+				.syncInt(this::getBurnTime, this::setBurnTime)
+				.syncInt(this::getTotalBurnTime, this::setTotalBurnTime).addInventory().create(this, syncID);
 	}
 }
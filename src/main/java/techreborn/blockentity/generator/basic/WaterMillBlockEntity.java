@@ -34,7 +34,6 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
 import reborncore.api.IToolDrop;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
-import reborncore.common.blocks.BlockMachineBase;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRBlockEntities;
@@ -80,9 +79,9 @@ public class WaterMillBlockEntity extends PowerAcceptorBlockEntity implements IT
 		}
 		if (waterBlocks > 0) {
 			addEnergyProbabilistic(waterBlocks * TechRebornConfig.waterMillEnergyMultiplier);
-			world.setBlockState(pos, world.getBlockState(pos).with(BlockMachineBase.ACTIVE, true));
+			setActive(true);
 		} else {
-			world.setBlockState(pos, world.getBlockState(pos).with(BlockMachineBase.ACTIVE, false));
+			setActive(false);
 		}
 	}
 
@@ -38,7 +38,6 @@ import reborncore.api.IToolDrop;
 import reborncore.api.blockentity.InventoryProvider;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
 import reborncore.common.blockentity.SlotConfiguration;
-import reborncore.common.blocks.BlockMachineBase;
 import reborncore.common.util.RebornInventory;
 import techreborn.config.TechRebornConfig;
 
@@ -126,11 +125,7 @@ public abstract class AbstractIronMachineBlockEntity extends MachineBaseBlockEnt
 	}
 
 	private void updateState() {
-		BlockState state = world.getBlockState(pos);
-		if (state.getBlock() instanceof BlockMachineBase blockMachineBase) {
-			if (state.get(BlockMachineBase.ACTIVE) != burnTime > 0)
-				blockMachineBase.setActive(burnTime > 0, world, pos);
-		}
+		setActive(burnTime > 0);
 	}
 
 	// MachineBaseBlockEntity
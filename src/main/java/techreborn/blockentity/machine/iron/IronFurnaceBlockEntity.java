@@ -221,9 +221,9 @@ public class IronFurnaceBlockEntity extends AbstractIronMachineBlockEntity imple
 		return new ScreenHandlerBuilder("ironfurnace").player(player.getInventory()).inventory().hotbar()
 				.addInventory().blockEntity(this)
 				.fuelSlot(2, 56, 53).slot(0, 56, 17).outputSlot(1, 116, 35)
-				.sync(PacketCodecs.INTEGER, this::getBurnTime, this::setBurnTime)
-				.sync(PacketCodecs.INTEGER, this::getProgress, this::setProgress)
-				.sync(PacketCodecs.INTEGER, this::getTotalBurnTime, this::setTotalBurnTime)
+				.syncInt(this::getBurnTime, this::setBurnTime)
+				.syncInt(this::getProgress, this::setProgress)
+				.syncInt(this::getTotalBurnTime, this::setTotalBurnTime)
 				.sync(PacketCodecs.FLOAT, this::getExperience, this::setExperience)
 				.addInventory().create(this, syncID);
 	}
@@ -29,7 +29,6 @@ import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
-import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.recipe.RecipeEntry;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.text.Text;
@@ -41,6 +40,7 @@ import org.jetbrains.annotations.Nullable;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
 import reborncore.common.blockentity.MultiblockWriter;
 import reborncore.common.crafting.RebornRecipe;
+import reborncore.common.crafting.RecipeIndex;
 import reborncore.common.crafting.SizedIngredient;
 import reborncore.common.crafting.RecipeUtils;
 import reborncore.common.screen.BuiltScreenHandler;
@@ -66,6 +66,7 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 	final int topStackSlot = 0;
 	final int bottomStackSlot = 1;
 	final int outputStackSlot = 2;
+	private static final int[] INPUT_SLOTS = new int[]{0, 1};
 	RecipeEntry<FusionReactorRecipe> currentRecipeEntry = null;
 	boolean hasStartedCrafting = false;
 	boolean checkNBTRecipe = false;
@@ -101,6 +102,7 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 	public void changeSize(int sizeDelta) {
 		int newSize = size + sizeDelta;
 		this.size = Math.max(6, Math.min(TechRebornConfig.fusionControlComputerMaxCoilSize, newSize));
+		invalidateMultiblock();
 	}
 
 	/**
@@ -140,15 +142,31 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 	 * Tries to set current recipe based in inputs in reactor
 	 */
 	private void updateCurrentRecipe() {
-		for (RecipeEntry<FusionReactorRecipe> entry : RecipeUtils.getRecipeEntries(world, ModRecipes.FUSION_REACTOR)) {
-			if (validateRecipe(entry)) {
-				currentRecipeEntry = entry;
-				craftingTickTime = 0;
-				neededPower = entry.value().getStartEnergy();
-				hasStartedCrafting = false;
-				break;
+		RecipeEntry<FusionReactorRecipe> entry = findRecipe();
+		if (entry != null) {
+			currentRecipeEntry = entry;
+			craftingTickTime = 0;
+			neededPower = entry.value().getStartEnergy();
+			hasStartedCrafting = false;
+		}
+	}
+
+	/**
+	 * Looks up the first recipe that can run with the current inputs, only recipes using the
+	 * items in the top and bottom slots are tested
+	 *
+	 * @return {@link RecipeEntry} Matching recipe or {@code null}
+	 */
+	@Nullable
+	private RecipeEntry<FusionReactorRecipe> findRecipe() {
+		RecipeIndex<FusionReactorRecipe> index = RecipeUtils.getRecipeIndex(world, ModRecipes.FUSION_REACTOR);
+		for (FusionReactorRecipe recipe : index.getCandidates(inventory, INPUT_SLOTS)) {
+			RecipeEntry<FusionReactorRecipe> entry = index.getEntry(recipe);
+			if (entry != null && validateRecipe(entry)) {
+				return entry;
 			}
 		}
+		return null;
 	}
 
 	/**
@@ -248,11 +266,7 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 		// Move this to here from the nbt read method, as it now requires the world as of 1.14
 		if (checkNBTRecipe) {
 			checkNBTRecipe = false;
-			for (RecipeEntry<FusionReactorRecipe> entry : RecipeUtils.getRecipeEntries(world, ModRecipes.FUSION_REACTOR)) {
-				if (validateRecipe(entry)) {
-					this.currentRecipeEntry = entry;
-				}
-			}
+			this.currentRecipeEntry = findRecipe();
 		}
 
 		if (lastTick == world.getTime()) {
@@ -356,6 +370,7 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 		}
 		//Done here to force the smaller size, will be useful if people lag out on a large one.
 		this.size = Math.min(size, TechRebornConfig.fusionControlComputerMaxCoilSize);
+		invalidateMultiblock();
 	}
 
 	@Override
@@ -391,10 +406,10 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 	public BuiltScreenHandler createScreenHandler(int syncID, final PlayerEntity player) {
 		return new ScreenHandlerBuilder("fusionreactor").player(player.getInventory()).inventory().hotbar()
 				.addInventory().blockEntity(this).slot(0, 34, 47).slot(1, 126, 47).outputSlot(2, 80, 47).syncEnergyValue()
-				.sync(PacketCodecs.INTEGER, this::getCraftingTickTime, this::setCraftingTickTime)
-				.sync(PacketCodecs.INTEGER, this::getSize, this::setSize)
-				.sync(PacketCodecs.INTEGER, this::getState, this::setState)
-				.sync(PacketCodecs.INTEGER, this::getNeededPower, this::setNeededPower)
+				.syncInt(this::getCraftingTickTime, this::setCraftingTickTime)
+				.syncInt(this::getSize, this::setSize)
+				.syncInt(this::getState, this::setState)
+				.syncInt(this::getNeededPower, this::setNeededPower)
 				.sync(Identifier.PACKET_CODEC, this::getCurrentRecipeID, this::setCurrentRecipeID)
 				.addInventory()
 				.create(this, syncID);
@@ -413,7 +428,10 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 	}
 
 	public void setSize(int size) {
-		this.size = size;
+		if (this.size != size) {
+			this.size = size;
+			invalidateMultiblock();
+		}
 	}
 
 	public int getState() {
@@ -455,10 +473,8 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 		this.currentRecipeEntry = getRecipeFromID(currentRecipeID);
 	}
 
+	@Nullable
 	private RecipeEntry<FusionReactorRecipe> getRecipeFromID(Identifier identifier) {
-		return RecipeUtils.getRecipeEntries(world, ModRecipes.FUSION_REACTOR).stream()
-			.filter(recipe -> recipe.id().equals(identifier))
-			.findFirst()
-			.orElse(null);
+		return RecipeUtils.getRecipeIndex(world, ModRecipes.FUSION_REACTOR).getEntry(identifier);
 	}
 }
@@ -25,7 +25,6 @@
 package techreborn.blockentity.machine.tier0.block.blockbreaker;
 
 import net.minecraft.nbt.NbtCompound;
-import net.minecraft.network.codec.PacketCodecs;
 import reborncore.common.screen.builder.BlockEntityScreenHandlerBuilder;
 import techreborn.blockentity.machine.tier0.block.ProcessingStatus;
 
@@ -55,9 +54,9 @@ class BlockBreakerNbt {
 	}
 
 	public BlockEntityScreenHandlerBuilder syncNbt(BlockEntityScreenHandlerBuilder builder) {
-		return builder.sync(PacketCodecs.INTEGER, this::getBreakTime, this::setBreakTime)
-			.sync(PacketCodecs.INTEGER, this::getCurrentBreakTime, this::setCurrentBreakTime)
-			.sync(PacketCodecs.INTEGER, this::getStatus, this::setStatus);
+		return builder.syncInt(this::getBreakTime, this::setBreakTime)
+			.syncInt(this::getCurrentBreakTime, this::setCurrentBreakTime)
+			.syncInt(this::getStatus, this::setStatus);
 	}
 
 	protected int getBreakTime() {
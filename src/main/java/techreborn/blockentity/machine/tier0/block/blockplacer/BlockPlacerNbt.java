@@ -25,7 +25,6 @@
 package techreborn.blockentity.machine.tier0.block.blockplacer;
 
 import net.minecraft.nbt.NbtCompound;
-import net.minecraft.network.codec.PacketCodecs;
 import reborncore.common.screen.builder.BlockEntityScreenHandlerBuilder;
 import techreborn.blockentity.machine.tier0.block.ProcessingStatus;
 
@@ -55,9 +54,9 @@ class BlockPlacerNbt {
 	}
 
 	public BlockEntityScreenHandlerBuilder syncNbt(BlockEntityScreenHandlerBuilder builder) {
-		return builder.sync(PacketCodecs.INTEGER, this::getPlaceTime, this::setPlaceTime)
-			.sync(PacketCodecs.INTEGER, this::getCurrentPlaceTime, this::setCurrentPlaceTime)
-			.sync(PacketCodecs.INTEGER, this::getStatus, this::setStatus);
+		return builder.syncInt(this::getPlaceTime, this::setPlaceTime)
+			.syncInt(this::getCurrentPlaceTime, this::setCurrentPlaceTime)
+			.syncInt(this::getStatus, this::setStatus);
 	}
 
 	protected int getPlaceTime() {
@@ -24,11 +24,9 @@
 
 package techreborn.blockentity.machine.tier1;
 
-import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.recipe.RecipeEntry;
 import net.minecraft.recipe.RecipeType;
 import net.minecraft.recipe.SmeltingRecipe;
@@ -40,7 +38,6 @@ import org.jetbrains.annotations.Nullable;
 import reborncore.api.IToolDrop;
 import reborncore.api.blockentity.InventoryProvider;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
-import reborncore.common.blocks.BlockMachineBase;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import reborncore.common.recipes.RecipeCrafter;
 import reborncore.common.screen.BuiltScreenHandler;
@@ -134,13 +131,8 @@ public class ElectricFurnaceBlockEntity extends PowerAcceptorBlockEntity
 	}
 
 	private void updateState() {
-		Block furnaceBlock = getWorld().getBlockState(pos).getBlock();
-
-		if (furnaceBlock instanceof BlockMachineBase blockMachineBase) {
-			boolean isActive = currentRecipe != null || canCraftAgain();
-			blockMachineBase.setActive(isActive, world, pos);
-		}
-		world.updateListeners(pos, world.getBlockState(pos), world.getBlockState(pos), 3);
+		setActive(currentRecipe != null || canCraftAgain());
+		world.updateListeners(pos, getCachedState(), getCachedState(), 3);
 	}
 
 	private boolean hasAllInputs(SmeltingRecipe recipe) {
@@ -276,6 +268,6 @@ public class ElectricFurnaceBlockEntity extends PowerAcceptorBlockEntity
 	public BuiltScreenHandler createScreenHandler(int syncID, final PlayerEntity player) {
 		return new ScreenHandlerBuilder("electricfurnace").player(player.getInventory()).inventory().hotbar().addInventory()
 				.blockEntity(this).slot(0, 55, 45).outputSlot(1, 101, 45).energySlot(2, 8, 72).syncEnergyValue()
-				.sync(PacketCodecs.INTEGER, this::getCookTime, this::setCookTime).sync(PacketCodecs.INTEGER, this::getCookTimeTotal, this::setCookTimeTotal).addInventory().create(this, syncID);
+				.syncInt(this::getCookTime, this::setCookTime).syncInt(this::getCookTimeTotal, this::setCookTimeTotal).addInventory().create(this, syncID);
 	}
 }
@@ -24,6 +24,7 @@
 
 package techreborn.blockentity.machine.tier1;
 
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.entity.player.PlayerEntity;
@@ -32,15 +33,12 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.sound.SoundEvents;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.Vec3i;
 import net.minecraft.world.TeleportTarget;
-import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
 import reborncore.api.IToolDrop;
-import reborncore.common.blockentity.MachineBaseBlockEntity;
 import reborncore.common.blockentity.RedstoneConfiguration;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import reborncore.common.screen.BuiltScreenHandler;
@@ -50,7 +48,6 @@ import techreborn.config.TechRebornConfig;
 import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
 
-import java.util.List;
 import java.util.Optional;
 
 public class ElevatorBlockEntity extends PowerAcceptorBlockEntity implements IToolDrop, BuiltScreenHandlerProvider {
@@ -92,36 +89,58 @@ public class ElevatorBlockEntity extends PowerAcceptorBlockEntity implements ITo
 		return isRunning(targetPos) && isFree(targetPos);
 	}
 
+	/**
+	 * @param fromY the first level to check
+	 * @param toY   the last level to check
+	 * @return {@code true} if every block of this column between the two levels is air or an elevator
+	 */
+	private boolean isPathClear(int fromY, int toY) {
+		BlockPos.Mutable checkPos = getPos().mutableCopy();
+		for (int y = Math.min(fromY, toY); y <= Math.max(fromY, toY); y++) {
+			if (!isAirOrElevator(checkPos.setY(y))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	public Optional<BlockPos> nextUpElevator() {
-		BlockPos upPos = getPos().up().up();
-		if (!TechRebornConfig.allowElevatingThroughBlocks && (!isAirOrElevator(getPos().up()) || !isAirOrElevator(getPos().up().up()))) {
+		final boolean checkPath = !TechRebornConfig.allowElevatingThroughBlocks;
+		if (checkPath && !isPathClear(getPos().getY() + 1, getPos().getY() + 2)) {
 			return Optional.empty();
 		}
-		do {
-			upPos = upPos.up();
-			if (!TechRebornConfig.allowElevatingThroughBlocks && !isAirOrElevator(upPos)) {
+		IntList column = ElevatorIndex.getColumn(getWorld(), getPos());
+		int checkedY = getPos().getY() + 2;
+		for (int i = ElevatorIndex.firstAbove(column, checkedY); i < column.size(); i++) {
+			final BlockPos upPos = getPos().withY(column.getInt(i));
+			if (checkPath && upPos.getY() > checkedY + 1 && !isPathClear(checkedY + 1, upPos.getY() - 1)) {
 				return Optional.empty();
 			}
-		} while (upPos.getY() <= getWorld().getTopY() && !isValidTarget(upPos));
-		if (upPos.getY() < getWorld().getTopY() || isValidTarget(upPos)) {
-			return Optional.of(upPos);
+			checkedY = upPos.getY();
+			if (isValidTarget(upPos)) {
+				return Optional.of(upPos);
+			}
 		}
 		return Optional.empty();
 	}
 
 	public Optional<BlockPos> nextDownElevator() {
-		BlockPos downPos = getPos().down().down();
-		if (!TechRebornConfig.allowElevatingThroughBlocks && (!isAirOrElevator(getPos().down()) || !isAirOrElevator(getPos().down().down()))) {
+		final boolean checkPath = !TechRebornConfig.allowElevatingThroughBlocks;
+		if (checkPath && !isPathClear(getPos().getY() - 2, getPos().getY() - 1)) {
 			return Optional.empty();
 		}
-		do {
-			downPos = downPos.down();
-			if (!TechRebornConfig.allowElevatingThroughBlocks && !isAirOrElevator(downPos)) {
+		IntList column = ElevatorIndex.getColumn(getWorld(), getPos());
+		int checkedY = getPos().getY() - 2;
+		// Index of the highest elevator below the two blocks under this one
+		for (int i = ElevatorIndex.firstAbove(column, checkedY - 1) - 1; i >= 0; i--) {
+			final BlockPos downPos = getPos().withY(column.getInt(i));
+			if (checkPath && downPos.getY() < checkedY - 1 && !isPathClear(downPos.getY() + 1, checkedY - 1)) {
 				return Optional.empty();
 			}
-		} while (downPos.getY() >= getWorld().getBottomY() && !isValidTarget(downPos));
-		if (downPos.getY() > getWorld().getBottomY() || isValidTarget(downPos)) {
-			return Optional.of(downPos);
+			checkedY = downPos.getY();
+			if (isValidTarget(downPos)) {
+				return Optional.of(downPos);
+			}
 		}
 		return Optional.empty();
 	}
@@ -178,35 +197,22 @@ public class ElevatorBlockEntity extends PowerAcceptorBlockEntity implements ITo
 		}
 	}
 
-	// PowerAcceptorBlockEntity
-	@Override
-	public void tick(World world, BlockPos pos, BlockState state, MachineBaseBlockEntity blockEntity) {
-		super.tick(world, pos, state, blockEntity);
-		if (!(world instanceof ServerWorld) || getStored() <= 0 || !isActive(RedstoneConfiguration.Element.POWER_IO)) {
+	/**
+	 * Called when a player standing on this elevator starts sneaking.
+	 */
+	public void teleportDown(final PlayerEntity player) {
+		if (getStored() <= 0 || !isActive(RedstoneConfiguration.Element.POWER_IO)) {
 			return;
 		}
 
-		// teleporting up must be done via mixin for now
-		Optional<BlockPos> downTarget = null;
-
-		List<PlayerEntity> players = world.getNonSpectatingEntities(PlayerEntity.class, new Box(0d,1d,0d,1d,2d,1d).offset(pos));
-		if (players.size() == 0) {
+		Optional<BlockPos> downTarget = nextDownElevator();
+		if (downTarget.isEmpty()) {
 			return;
 		}
-		for (PlayerEntity player : players) {
-			if (player.isSneaking()) {
-				if (downTarget == null) {
-					downTarget = nextDownElevator();
-				}
-				if (downTarget.isEmpty()) {
-					continue;
-				}
-				if (teleport(player, downTarget.get().up())) {
-					player.setSneaking(false);
-				}
-			}
-		}
+		teleport(player, downTarget.get().up());
 	}
+
+	// PowerAcceptorBlockEntity
 	@Override
 	public long getBaseMaxPower() {
 		return TechRebornConfig.elevatorMaxEnergy;
@@ -0,0 +1,139 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package techreborn.blockentity.machine.tier1;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerBlockEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import reborncore.api.events.PlayerSneakCallback;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the Y levels of the loaded elevators of every block column, sorted from bottom to top.
+ *
+ * <p>Elevators are added and removed as their block entities are loaded and unloaded, which covers placing,
+ * breaking and chunk (un)loading. Finding the next elevator above or below is a binary search in the column.</p>
+ */
+public final class ElevatorIndex {
+	private static final Map<World, Long2ObjectMap<IntArrayList>> COLUMNS = new HashMap<>();
+
+	private ElevatorIndex() {
+	}
+
+	public static void init() {
+		ServerBlockEntityEvents.BLOCK_ENTITY_LOAD.register((blockEntity, world) -> {
+			if (blockEntity instanceof ElevatorBlockEntity) {
+				add(world, blockEntity.getPos());
+			}
+		});
+		ServerBlockEntityEvents.BLOCK_ENTITY_UNLOAD.register((blockEntity, world) -> {
+			if (blockEntity instanceof ElevatorBlockEntity) {
+				remove(world, blockEntity.getPos());
+			}
+		});
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> COLUMNS.clear());
+
+		PlayerSneakCallback.EVENT.register(player -> {
+			if (player.getWorld().getBlockEntity(player.getBlockPos().down()) instanceof ElevatorBlockEntity elevator) {
+				elevator.teleportDown(player);
+			}
+		});
+	}
+
+	private static long columnKey(BlockPos pos) {
+		return BlockPos.asLong(pos.getX(), 0, pos.getZ());
+	}
+
+	private static void add(World world, BlockPos pos) {
+		IntArrayList column = COLUMNS.computeIfAbsent(world, w -> new Long2ObjectOpenHashMap<>())
+			.computeIfAbsent(columnKey(pos), key -> new IntArrayList());
+		int index = firstAbove(column, pos.getY() - 1);
+		if (index == column.size() || column.getInt(index) != pos.getY()) {
+			column.add(index, pos.getY());
+		}
+	}
+
+	private static void remove(World world, BlockPos pos) {
+		Long2ObjectMap<IntArrayList> columns = COLUMNS.get(world);
+		if (columns == null) {
+			return;
+		}
+		long key = columnKey(pos);
+		IntArrayList column = columns.get(key);
+		if (column == null) {
+			return;
+		}
+		int index = firstAbove(column, pos.getY() - 1);
+		if (index < column.size() && column.getInt(index) == pos.getY()) {
+			column.removeInt(index);
+		}
+		if (column.isEmpty()) {
+			columns.remove(key);
+			if (columns.isEmpty()) {
+				COLUMNS.remove(world);
+			}
+		}
+	}
+
+	/**
+	 * @param world the world to look in
+	 * @param pos   any position in the column
+	 * @return the sorted Y levels of the loaded elevators in the column, must not be modified
+	 */
+	static IntList getColumn(World world, BlockPos pos) {
+		Long2ObjectMap<IntArrayList> columns = COLUMNS.get(world);
+		if (columns == null) {
+			return IntLists.emptyList();
+		}
+		IntArrayList column = columns.get(columnKey(pos));
+		return column == null ? IntLists.emptyList() : column;
+	}
+
+	/**
+	 * @param column sorted Y levels
+	 * @param y      the level to search from
+	 * @return index of the first level above {@code y}, or the size of the column if there is none
+	 */
+	static int firstAbove(IntList column, int y) {
+		int low = 0;
+		int high = column.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (column.getInt(mid) <= y) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+}
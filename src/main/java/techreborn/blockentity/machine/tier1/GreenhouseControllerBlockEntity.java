@@ -28,6 +28,10 @@ import net.minecraft.block.*;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.state.property.IntProperty;
 import net.minecraft.state.property.Properties;
@@ -51,7 +55,8 @@ import techreborn.config.TechRebornConfig;
 import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 public class GreenhouseControllerBlockEntity extends PowerAcceptorBlockEntity
@@ -64,6 +69,19 @@ public class GreenhouseControllerBlockEntity extends PowerAcceptorBlockEntity
 	private int workingIndex = 0;
 	// number of blocks from center
 	private final int range = 4;
+	private final int size = range * 2 + 1;
+
+	// What grows at the base of each column of the farm area, so work cycles can skip soil and air
+	private static final byte COLUMN_EMPTY = 0;
+	// Only worth a visit while growth boost is on
+	private static final byte COLUMN_GROWING = 1;
+	private static final byte COLUMN_HARVESTABLE = 2;
+	// Cane, cactus, bamboo, rubber trees and cave vines, the blocks above the base are checked on every visit
+	private static final byte COLUMN_TALL = 3;
+	private final byte[] columns = new byte[size * size];
+	private final BitSet dirtyColumns = new BitSet(size * size);
+	// Harvested items are collected here during a batch of work cycles and inserted once at the end
+	private final List<ItemStack> pendingOutput = new ArrayList<>();
 
 
 	public GreenhouseControllerBlockEntity(BlockPos pos, BlockState state) {
@@ -75,13 +93,15 @@ public class GreenhouseControllerBlockEntity extends PowerAcceptorBlockEntity
 			return;
 		}
 
-		int size = range * 2 + 1;
-		int offsetX = workingIndex % size;
-		int offsetZ = workingIndex / size;
+		int column = nextColumn();
+		if (column < 0) {
+			return;
+		}
 		BlockPos corner = multiblockCenter.add(-range, 0, -range);
-		BlockPos blockPos = corner.add(offsetX, 0, offsetZ);
+		BlockPos blockPos = corner.add(column % size, 0, column / size);
+		// Whatever happens below, classify the column again before its next visit
+		dirtyColumns.set(column);
 
-		workingIndex = (workingIndex + 1) % (size * size);
 		BlockState blockState = world.getBlockState(blockPos);
 		Block block = blockState.getBlock();
 
@@ -109,37 +129,29 @@ public class GreenhouseControllerBlockEntity extends PowerAcceptorBlockEntity
 		} else if (block instanceof CocoaBlock) {
 			processAgedCrop(blockState, blockPos, CocoaBlock.AGE, 2, 0);
 		} else if (block instanceof PumpkinBlock) {
-			if (tryHarvestBlock(blockState, blockPos)) {
-				world.breakBlock(blockPos, false);
-			}
+			harvestBlock(blockState, blockPos);
+			world.breakBlock(blockPos, false);
 		} else if (block instanceof SugarCaneBlock
 				|| block instanceof CactusBlock
 				|| block instanceof BambooBlock
 		) {
-			// If we can break bottom block we should at least remove all of them up to top, so they don't break automatically
-			boolean breakBlocks = false;
+			// Remove everything above the bottom block, so the rest does not break on its own
 			for (int y = 1; (blockState = world.getBlockState(blockPos.up(y))).getBlock() == block; y++) {
-				if (y == 1) {
-					breakBlocks = tryHarvestBlock(blockState, blockPos.up(y));
-				} else {
-					tryHarvestBlock(blockState, blockPos.up(y));
-				}
-				if (breakBlocks) world.breakBlock(blockPos.up(y), false);
+				harvestBlock(blockState, blockPos.up(y));
+				world.breakBlock(blockPos.up(y), false);
 			}
 		} else if (block instanceof BlockRubberLog) {
 			for (int y = 0; (blockState = world.getBlockState(blockPos.up(y))).getBlock() == block && y < 10; y++) {
-				if (blockState.get(BlockRubberLog.HAS_SAP)
-						&& insertIntoInv(Collections.singletonList(TRContent.Parts.SAP.getStack()))
-				) {
+				if (blockState.get(BlockRubberLog.HAS_SAP)) {
+					pendingOutput.add(TRContent.Parts.SAP.getStack());
 					useEnergy(TechRebornConfig.greenhouseControllerEnergyPerHarvest);
 					world.setBlockState(blockPos.up(y), blockState.with(BlockRubberLog.HAS_SAP, false).with(BlockRubberLog.SAP_SIDE, Direction.fromHorizontal(0)));
 				}
 			}
 		} else if (block instanceof CaveVines){
 			for (int y=0; (blockState = world.getBlockState(blockPos.up(y))).getBlock() instanceof CaveVines; y++){
-				if (blockState.get(Properties.BERRIES)
-					&& insertIntoInv(Collections.singletonList(new ItemStack(Items.GLOW_BERRIES, 1)))
-				){
+				if (blockState.get(Properties.BERRIES)) {
+					pendingOutput.add(new ItemStack(Items.GLOW_BERRIES, 1));
 					useEnergy(TechRebornConfig.greenhouseControllerEnergyPerHarvest);
 					world.setBlockState(blockPos.up(y), blockState.with(Properties.BERRIES, false));
 				}
@@ -147,6 +159,50 @@ public class GreenhouseControllerBlockEntity extends PowerAcceptorBlockEntity
 		}
 	}
 
+	/**
+	 * Finds the next column worth visiting, after the last visited one
+	 *
+	 * @return {@code int} Column index, or -1 if nothing in the area can grow or be harvested
+	 */
+	private int nextColumn() {
+		for (int column = dirtyColumns.nextSetBit(0); column >= 0; column = dirtyColumns.nextSetBit(column + 1)) {
+			BlockPos corner = multiblockCenter.add(-range, 0, -range);
+			columns[column] = classifyColumn(world.getBlockState(corner.add(column % size, 0, column / size)));
+		}
+		dirtyColumns.clear();
+
+		for (int i = 0; i < columns.length; i++) {
+			int column = workingIndex;
+			workingIndex = (workingIndex + 1) % columns.length;
+			byte kind = columns[column];
+			if (kind == COLUMN_HARVESTABLE || kind == COLUMN_TALL || (kind == COLUMN_GROWING && growthBoost)) {
+				return column;
+			}
+		}
+		return -1;
+	}
+
+	private static byte classifyColumn(BlockState blockState) {
+		Block block = blockState.getBlock();
+		if (block instanceof CropBlock cropBlock) {
+			return cropBlock.isMature(blockState) ? COLUMN_HARVESTABLE : COLUMN_GROWING;
+		} else if (block instanceof NetherWartBlock) {
+			return blockState.get(NetherWartBlock.AGE) >= 3 ? COLUMN_HARVESTABLE : COLUMN_GROWING;
+		} else if (block instanceof SweetBerryBushBlock) {
+			return blockState.get(SweetBerryBushBlock.AGE) >= 3 ? COLUMN_HARVESTABLE : COLUMN_GROWING;
+		} else if (block instanceof CocoaBlock) {
+			return blockState.get(CocoaBlock.AGE) >= 2 ? COLUMN_HARVESTABLE : COLUMN_GROWING;
+		} else if (block instanceof PumpkinBlock) {
+			return COLUMN_HARVESTABLE;
+		} else if (block instanceof SugarCaneBlock || block instanceof CactusBlock || block instanceof BambooBlock
+				|| block instanceof BlockRubberLog || block instanceof CaveVines) {
+			return COLUMN_TALL;
+		} else if (block instanceof Fertilizable || block instanceof PlantBlock) {
+			return COLUMN_GROWING;
+		}
+		return COLUMN_EMPTY;
+	}
+
 	private void processAgedCrop(BlockState blockState, BlockPos blockPos, IntProperty ageProperty, int maxAge, int newAge) {
 		if (world == null) {
 			return;
@@ -154,17 +210,28 @@ public class GreenhouseControllerBlockEntity extends PowerAcceptorBlockEntity
 		if (blockState.get(ageProperty) < maxAge) {
 			return;
 		}
-		if (tryHarvestBlock(blockState, blockPos)) {
-			world.setBlockState(blockPos, blockState.with(ageProperty, newAge), 2);
-		}
+		harvestBlock(blockState, blockPos);
+		world.setBlockState(blockPos, blockState.with(ageProperty, newAge), 2);
 	}
 
-	private boolean tryHarvestBlock(BlockState blockState, BlockPos blockPos) {
-		if (insertIntoInv(Block.getDroppedStacks(blockState, (ServerWorld) world, blockPos, null))) {
-			useEnergy(TechRebornConfig.greenhouseControllerEnergyPerHarvest);
+	private void harvestBlock(BlockState blockState, BlockPos blockPos) {
+		pendingOutput.addAll(Block.getDroppedStacks(blockState, (ServerWorld) world, blockPos, null));
+		useEnergy(TechRebornConfig.greenhouseControllerEnergyPerHarvest);
+	}
+
+	/**
+	 * Moves the collected harvest into the output slots
+	 *
+	 * @return {@code boolean} True if everything fit
+	 */
+	private boolean flushOutput() {
+		if (pendingOutput.isEmpty()) {
 			return true;
 		}
-		return false;
+		insertIntoInv(pendingOutput);
+		pendingOutput.removeIf(ItemStack::isEmpty);
+		inventory.markDirty();
+		return pendingOutput.isEmpty();
 	}
 
 	private boolean insertIntoInv(List<ItemStack> stacks) {
@@ -218,13 +285,52 @@ public class GreenhouseControllerBlockEntity extends PowerAcceptorBlockEntity
 		if (--ticksToNextMultiblockCheck < 0) {
 			growthBoost = isMultiblockValid();
 			ticksToNextMultiblockCheck = 200;
+			// Changes above the structure bounds and in chunks loaded since are not notified, rescan now and then
+			dirtyColumns.set(0, size * size);
 		}
 
-		if (world.getTime() % 20 == 0) {
+		// Nothing is harvested while the last batch is still waiting for room in the output
+		if (world.getTime() % 20 == 0 && flushOutput()) {
 			double cyclesLimit = getSpeedMultiplier() * 4 + 1;
 			while (cyclesLimit-- > 0) {
 				workCycle();
 			}
+			flushOutput();
+		}
+	}
+
+	@Override
+	protected void onMultiblockBlockChanged(BlockPos pos) {
+		super.onMultiblockBlockChanged(pos);
+		if (multiblockCenter == null) {
+			return;
+		}
+		int x = pos.getX() - multiblockCenter.getX() + range;
+		int z = pos.getZ() - multiblockCenter.getZ() + range;
+		if (x >= 0 && x < size && z >= 0 && z < size) {
+			dirtyColumns.set(z * size + x);
+		}
+	}
+
+	@Override
+	public void readNbt(NbtCompound tag, RegistryWrapper.WrapperLookup registryLookup) {
+		super.readNbt(tag, registryLookup);
+		pendingOutput.clear();
+		NbtList pending = tag.getList("pendingOutput", NbtElement.COMPOUND_TYPE);
+		for (int i = 0; i < pending.size(); i++) {
+			ItemStack.fromNbt(registryLookup, pending.getCompound(i)).ifPresent(pendingOutput::add);
+		}
+	}
+
+	@Override
+	public void writeNbt(NbtCompound tag, RegistryWrapper.WrapperLookup registryLookup) {
+		super.writeNbt(tag, registryLookup);
+		if (!pendingOutput.isEmpty()) {
+			NbtList pending = new NbtList();
+			for (ItemStack stack : pendingOutput) {
+				pending.add(stack.encode(registryLookup));
+			}
+			tag.put("pendingOutput", pending);
 		}
 	}
 
@@ -28,11 +28,9 @@ import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
-import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
-import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
 import reborncore.api.IToolDrop;
@@ -48,12 +46,21 @@ import techreborn.config.TechRebornConfig;
 import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
 
-public class PlayerDetectorBlockEntity extends PowerAcceptorBlockEntity implements IToolDrop, BuiltScreenHandlerProvider {
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
 
+public class PlayerDetectorBlockEntity extends PowerAcceptorBlockEntity implements IToolDrop, BuiltScreenHandlerProvider {
 
-	public String ownerUdid = "";
+	@Nullable
+	private UUID owner;
 	boolean redstone = false;
 	int radius = 16;
+	// Whether there was enough energy at the last check, the detector is dark without it
+	private boolean powered = false;
+	private boolean registered = false;
+	// Maintained by PlayerDetectorIndex as players cross the range boundary
+	private final Set<UUID> playersInRange = new HashSet<>();
 
 	public PlayerDetectorBlockEntity(BlockPos pos, BlockState state) {
 		super(TRBlockEntities.PLAYER_DETECTOR, pos, state);
@@ -72,6 +79,65 @@ public class PlayerDetectorBlockEntity extends PowerAcceptorBlockEntity implemen
 		if (radius <= 1) {
 			radius = 1;
 		}
+		PlayerDetectorIndex.refresh(this);
+	}
+
+	public void setOwner(@Nullable UUID owner) {
+		this.owner = owner;
+		updateRedstone();
+	}
+
+	boolean isInRange(PlayerEntity player) {
+		return player.squaredDistanceTo(pos.getX(), pos.getY(), pos.getZ()) <= (double) radius * radius;
+	}
+
+	Set<UUID> getPlayersInRange() {
+		return playersInRange;
+	}
+
+	void onPlayerEnter(UUID player) {
+		if (playersInRange.add(player)) {
+			updateRedstone();
+		}
+	}
+
+	void onPlayerLeave(UUID player) {
+		if (playersInRange.remove(player)) {
+			updateRedstone();
+		}
+	}
+
+	private boolean isDetecting() {
+		if (!powered) {
+			return false;
+		}
+		PlayerDetectorType type = getCachedState().get(PlayerDetectorBlock.TYPE);
+		for (UUID player : playersInRange) {
+			if (type == PlayerDetectorType.ALL) {// ALL
+				return true;
+			} else if (type == PlayerDetectorType.OTHERS) {// Others
+				if (owner != null && !owner.equals(player)) {
+					return true;
+				}
+			} else {// You
+				if (owner != null && owner.equals(player)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private void updateRedstone() {
+		if (world == null || world.isClient) {
+			return;
+		}
+		boolean lastRedstone = redstone;
+		redstone = isDetecting();
+		if (lastRedstone != redstone) {
+			WorldUtils.updateBlock(world, pos);
+			world.updateNeighborsAlways(pos, getCachedState().getBlock());
+		}
 	}
 
 	// PowerAcceptorBlockEntity
@@ -87,34 +153,12 @@ public class PlayerDetectorBlockEntity extends PowerAcceptorBlockEntity implemen
 			return;
 		}
 
-		boolean lastRedstone = redstone;
-		redstone = false;
-		if (getStored() > TechRebornConfig.playerDetectorEuPerTick) {
-			for (PlayerEntity player : world.getPlayers()) {
-				if (player.isSpectator()){
-					continue;
-				}
-				if (MathHelper.sqrt((float)player.squaredDistanceTo(pos.getX(), pos.getY(), pos.getZ())) <= (float)radius ) {
-					PlayerDetectorType type = world.getBlockState(pos).get(PlayerDetectorBlock.TYPE);
-					if (type == PlayerDetectorType.ALL) {// ALL
-						redstone = true;
-					} else if (type == PlayerDetectorType.OTHERS) {// Others
-						if (!ownerUdid.isEmpty() && !ownerUdid.equals(player.getUuid().toString())) {
-							redstone = true;
-						}
-					} else {// You
-						if (!ownerUdid.isEmpty() && ownerUdid.equals(player.getUuid().toString())) {
-							redstone = true;
-						}
-					}
-				}
-			}
+		powered = getStored() > TechRebornConfig.playerDetectorEuPerTick;
+		if (powered) {
 			useEnergy(TechRebornConfig.playerDetectorEuPerTick);
 		}
-		if (lastRedstone != redstone) {
-			WorldUtils.updateBlock(world, pos);
-			world.updateNeighborsAlways(pos, world.getBlockState(pos).getBlock());
-		}
+		// Players are pushed in by PlayerDetectorIndex, this only picks up energy and type changes
+		updateRedstone();
 	}
 
 	@Override
@@ -140,18 +184,48 @@ public class PlayerDetectorBlockEntity extends PowerAcceptorBlockEntity implemen
 	@Override
 	public void readNbt(NbtCompound tag, RegistryWrapper.WrapperLookup registryLookup) {
 		super.readNbt(tag, registryLookup);
-		ownerUdid = tag.getString("ownerID");
+		String ownerId = tag.getString("ownerID");
+		owner = ownerId.isEmpty() ? null : UUID.fromString(ownerId);
 		radius = tag.getInt("radius");
+		PlayerDetectorIndex.refresh(this);
 	}
 
 	@Override
 	public void writeNbt(NbtCompound tag, RegistryWrapper.WrapperLookup registryLookup) {
 		super.writeNbt(tag, registryLookup);
-		tag.putString("ownerID", ownerUdid);
+		tag.putString("ownerID", owner == null ? "" : owner.toString());
 		tag.putInt("radius", radius);
 	}
 
 	// MachineBaseBlockEntity
+	@Override
+	public void onLoad() {
+		super.onLoad();
+		if (!registered) {
+			registered = true;
+			PlayerDetectorIndex.add(this);
+		}
+	}
+
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+		if (registered) {
+			registered = false;
+			PlayerDetectorIndex.remove(this);
+			playersInRange.clear();
+		}
+	}
+
+	@Override
+	public void cancelRemoval() {
+		super.cancelRemoval();
+		if (!registered && world != null) {
+			registered = true;
+			PlayerDetectorIndex.add(this);
+		}
+	}
+
 	@Override
 	public boolean hasSlotConfig() {
 		return false;
@@ -176,7 +250,7 @@ public class PlayerDetectorBlockEntity extends PowerAcceptorBlockEntity implemen
 				.inventory().hotbar().addInventory()
 				.blockEntity(this)
 				.syncEnergyValue()
-				.sync(PacketCodecs.INTEGER, this::getCurrentRadius, this::setCurrentRadius)
+				.syncInt(this::getCurrentRadius, this::setCurrentRadius)
 				.addInventory().create(this, syncID);
 	}
 
@@ -186,5 +260,6 @@ public class PlayerDetectorBlockEntity extends PowerAcceptorBlockEntity implemen
 
 	public void setCurrentRadius(int radius) {
 		this.radius = radius;
+		PlayerDetectorIndex.refresh(this);
 	}
 }
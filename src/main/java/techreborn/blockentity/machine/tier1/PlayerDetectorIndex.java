@@ -0,0 +1,248 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2024 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package techreborn.blockentity.machine.tier1;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tracks which players are inside the range of which player detectors.
+ *
+ * <p>Once per tick the players of every world that has detectors are bucketed by chunk. Players that moved
+ * are checked against the detectors in the chunks around them, and detectors are only told when a player
+ * enters or leaves their range. Detectors that were placed, loaded or had their radius changed query the
+ * player buckets once to pick up whoever is already inside.</p>
+ */
+final class PlayerDetectorIndex {
+	private static final Map<World, WorldIndex> INDICES = new HashMap<>();
+
+	static {
+		ServerTickEvents.END_WORLD_TICK.register(PlayerDetectorIndex::tick);
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> INDICES.clear());
+	}
+
+	private PlayerDetectorIndex() {
+	}
+
+	static void add(PlayerDetectorBlockEntity detector) {
+		if (!(detector.getWorld() instanceof ServerWorld world)) {
+			return;
+		}
+		WorldIndex index = INDICES.computeIfAbsent(world, w -> new WorldIndex());
+		index.detectors.computeIfAbsent(ChunkPos.toLong(detector.getPos()), l -> new ArrayList<>()).add(detector);
+		index.pending.add(detector);
+		index.maxRadius = Math.max(index.maxRadius, detector.getCurrentRadius());
+	}
+
+	static void remove(PlayerDetectorBlockEntity detector) {
+		if (!(detector.getWorld() instanceof ServerWorld world)) {
+			return;
+		}
+		WorldIndex index = INDICES.get(world);
+		if (index == null) {
+			return;
+		}
+		long chunk = ChunkPos.toLong(detector.getPos());
+		List<PlayerDetectorBlockEntity> detectors = index.detectors.get(chunk);
+		if (detectors != null && detectors.remove(detector) && detectors.isEmpty()) {
+			index.detectors.remove(chunk);
+		}
+		index.pending.remove(detector);
+		for (UUID player : detector.getPlayersInRange()) {
+			TrackedPlayer tracked = index.players.get(player);
+			if (tracked != null) {
+				tracked.detectors.remove(detector);
+			}
+		}
+		if (index.detectors.isEmpty()) {
+			INDICES.remove(world);
+		}
+	}
+
+	/**
+	 * Re-evaluates every player against a detector whose range changed
+	 */
+	static void refresh(PlayerDetectorBlockEntity detector) {
+		if (!(detector.getWorld() instanceof ServerWorld world)) {
+			return;
+		}
+		WorldIndex index = INDICES.get(world);
+		if (index != null) {
+			index.pending.add(detector);
+			index.maxRadius = Math.max(index.maxRadius, detector.getCurrentRadius());
+		}
+	}
+
+	private static void tick(ServerWorld world) {
+		WorldIndex index = INDICES.get(world);
+		if (index == null) {
+			return;
+		}
+
+		// Bucket the players by chunk
+		index.playersByChunk.clear();
+		Set<UUID> seen = new HashSet<>();
+		for (ServerPlayerEntity player : world.getPlayers()) {
+			if (player.isSpectator()) {
+				continue;
+			}
+			seen.add(player.getUuid());
+			index.playersByChunk.computeIfAbsent(ChunkPos.toLong(player.getBlockPos()), l -> new ArrayList<>()).add(player);
+		}
+
+		// Players that left the world, died or went into spectator leave every range they were in
+		Iterator<Map.Entry<UUID, TrackedPlayer>> iterator = index.players.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<UUID, TrackedPlayer> entry = iterator.next();
+			if (!seen.contains(entry.getKey())) {
+				for (PlayerDetectorBlockEntity detector : entry.getValue().detectors) {
+					detector.onPlayerLeave(entry.getKey());
+				}
+				iterator.remove();
+			}
+		}
+
+		// New detectors and changed radii query the player buckets directly
+		if (!index.pending.isEmpty()) {
+			for (PlayerDetectorBlockEntity detector : index.pending) {
+				refreshDetector(index, detector);
+			}
+			index.pending.clear();
+		}
+
+		// Only players that moved can cross a boundary
+		int chunkRadius = (index.maxRadius >> 4) + 1;
+		for (List<ServerPlayerEntity> players : index.playersByChunk.values()) {
+			for (ServerPlayerEntity player : players) {
+				TrackedPlayer tracked = index.players.computeIfAbsent(player.getUuid(), uuid -> new TrackedPlayer());
+				if (tracked.x == player.getX() && tracked.y == player.getY() && tracked.z == player.getZ()) {
+					continue;
+				}
+				tracked.x = player.getX();
+				tracked.y = player.getY();
+				tracked.z = player.getZ();
+				updatePlayer(index, player, tracked, chunkRadius);
+			}
+		}
+	}
+
+	private static void updatePlayer(WorldIndex index, ServerPlayerEntity player, TrackedPlayer tracked, int chunkRadius) {
+		UUID uuid = player.getUuid();
+
+		// Leaving is checked against the detectors the player is known to be in, wherever they are now
+		Iterator<PlayerDetectorBlockEntity> iterator = tracked.detectors.iterator();
+		while (iterator.hasNext()) {
+			PlayerDetectorBlockEntity detector = iterator.next();
+			if (!detector.isInRange(player)) {
+				iterator.remove();
+				detector.onPlayerLeave(uuid);
+			}
+		}
+
+		int chunkX = player.getBlockX() >> 4;
+		int chunkZ = player.getBlockZ() >> 4;
+		for (int x = chunkX - chunkRadius; x <= chunkX + chunkRadius; x++) {
+			for (int z = chunkZ - chunkRadius; z <= chunkZ + chunkRadius; z++) {
+				List<PlayerDetectorBlockEntity> detectors = index.detectors.get(ChunkPos.toLong(x, z));
+				if (detectors == null) {
+					continue;
+				}
+				for (PlayerDetectorBlockEntity detector : detectors) {
+					if (detector.isInRange(player) && tracked.detectors.add(detector)) {
+						detector.onPlayerEnter(uuid);
+					}
+				}
+			}
+		}
+	}
+
+	private static void refreshDetector(WorldIndex index, PlayerDetectorBlockEntity detector) {
+		if (detector.isRemoved()) {
+			return;
+		}
+		Set<UUID> inRange = new HashSet<>();
+		int chunkRadius = (detector.getCurrentRadius() >> 4) + 1;
+		int chunkX = detector.getPos().getX() >> 4;
+		int chunkZ = detector.getPos().getZ() >> 4;
+		for (int x = chunkX - chunkRadius; x <= chunkX + chunkRadius; x++) {
+			for (int z = chunkZ - chunkRadius; z <= chunkZ + chunkRadius; z++) {
+				List<ServerPlayerEntity> players = index.playersByChunk.get(ChunkPos.toLong(x, z));
+				if (players == null) {
+					continue;
+				}
+				for (ServerPlayerEntity player : players) {
+					if (detector.isInRange(player)) {
+						inRange.add(player.getUuid());
+					}
+				}
+			}
+		}
+
+		for (UUID player : List.copyOf(detector.getPlayersInRange())) {
+			if (!inRange.contains(player)) {
+				TrackedPlayer tracked = index.players.get(player);
+				if (tracked != null) {
+					tracked.detectors.remove(detector);
+				}
+				detector.onPlayerLeave(player);
+			}
+		}
+		for (UUID player : inRange) {
+			index.players.computeIfAbsent(player, uuid -> new TrackedPlayer()).detectors.add(detector);
+			detector.onPlayerEnter(player);
+		}
+	}
+
+	private static final class WorldIndex {
+		private final Long2ObjectMap<List<PlayerDetectorBlockEntity>> detectors = new Long2ObjectOpenHashMap<>();
+		private final Long2ObjectMap<List<ServerPlayerEntity>> playersByChunk = new Long2ObjectOpenHashMap<>();
+		private final Map<UUID, TrackedPlayer> players = new HashMap<>();
+		private final Set<PlayerDetectorBlockEntity> pending = new LinkedHashSet<>();
+		// Largest radius ever registered, only grows, which just widens the search a little
+		private int maxRadius;
+	}
+
+	private static final class TrackedPlayer {
+		private double x = Double.NaN;
+		private double y = Double.NaN;
+		private double z = Double.NaN;
+		private final Set<PlayerDetectorBlockEntity> detectors = new HashSet<>();
+	}
+}
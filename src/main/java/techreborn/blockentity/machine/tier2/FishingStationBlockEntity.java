@@ -25,6 +25,7 @@
 package techreborn.blockentity.machine.tier2;
 
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.fluid.FluidState;
@@ -58,8 +59,28 @@ import java.util.List;
 
 public class FishingStationBlockEntity extends PowerAcceptorBlockEntity implements IToolDrop, InventoryProvider, BuiltScreenHandlerProvider {
 
+	// Catches are rolled in batches this often, with the same expected yield as one catch per interval
+	private static final int BATCH_TICKS = 20;
+	// Bumped on every datapack reload so stations drop their cached loot table
+	private static int lootGeneration = 0;
+
+	static {
+		ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> lootGeneration++);
+	}
+
 	private final RebornInventory<FishingStationBlockEntity> inventory = new RebornInventory<>(7, "FishingStationBlockEntity", 64, this);
 
+	private int catchProgress = 0;
+	@Nullable
+	private LootTable lootTable;
+	private int cachedLootGeneration = -1;
+	@Nullable
+	private LootContextParameterSet lootContext;
+	@Nullable
+	private BlockPos lootOrigin;
+	private int outputCheckedAt = -1;
+	private boolean outputFull = false;
+
 	public FishingStationBlockEntity(BlockPos pos, BlockState state) {
 		super(TRBlockEntities.FISHING_STATION, pos, state);
 	}
@@ -95,6 +116,40 @@ public class FishingStationBlockEntity extends PowerAcceptorBlockEntity implemen
 		return false;
 	}
 
+	private boolean isOutputFull() {
+		if (outputCheckedAt != inventory.getChangeCount()) {
+			outputCheckedAt = inventory.getChangeCount();
+			outputFull = true;
+			for (int i = 0; i < 6; i++) {
+				ItemStack stack = inventory.getStack(i);
+				if (stack.isEmpty() || stack.getCount() < stack.getMaxCount()) {
+					outputFull = false;
+					break;
+				}
+			}
+		}
+		return outputFull;
+	}
+
+	private LootTable getLootTable(ServerWorld world) {
+		if (lootTable == null || cachedLootGeneration != lootGeneration) {
+			lootTable = world.getServer().getReloadableRegistries().getLootTable(LootTables.FISHING_GAMEPLAY);
+			cachedLootGeneration = lootGeneration;
+		}
+		return lootTable;
+	}
+
+	private LootContextParameterSet getLootContext(ServerWorld world, BlockPos frontPos) {
+		if (lootContext == null || !frontPos.equals(lootOrigin)) {
+			lootContext = new LootContextParameterSet.Builder(world)
+				.add(LootContextParameters.ORIGIN, Vec3d.ofCenter(frontPos))
+				.add(LootContextParameters.TOOL, TRContent.Machine.FISHING_STATION.getStack())
+				.build(LootContextTypes.FISHING);
+			lootOrigin = frontPos;
+		}
+		return lootContext;
+	}
+
 	// PowerAcceptorBlockEntity
 	@Override
 	public void tick(World world, BlockPos pos, BlockState state, MachineBaseBlockEntity blockEntity) {
@@ -105,6 +160,11 @@ public class FishingStationBlockEntity extends PowerAcceptorBlockEntity implemen
 
 		charge(6);
 
+		// Nothing to do until something is taken out
+		if (isOutputFull()) {
+			return;
+		}
+
 		long useRequirement = getEuPerTick(TechRebornConfig.fishingStationEnergyPerCatch);
 
 		if (getStored() < useRequirement) {
@@ -112,8 +172,16 @@ public class FishingStationBlockEntity extends PowerAcceptorBlockEntity implemen
 		}
 
 		int speed = (int) Math.round(getSpeedMultiplier() / TechRebornConfig.overclockerSpeed) + 1;
+		catchProgress += speed;
 
-		if (world.getTime() % (TechRebornConfig.fishingStationInterval/speed) != 0) {
+		if (world.getTime() % BATCH_TICKS != 0) {
+			return;
+		}
+
+		final int interval = TechRebornConfig.fishingStationInterval;
+		final int catches = (int) Math.min(catchProgress / interval, getStored() / useRequirement);
+		catchProgress %= interval;
+		if (catches == 0) {
 			return;
 		}
 
@@ -123,16 +191,18 @@ public class FishingStationBlockEntity extends PowerAcceptorBlockEntity implemen
 			return;
 		}
 
-
-		final LootContextParameterSet lootContextParameterSet = new LootContextParameterSet.Builder((ServerWorld) world)
-			.add(LootContextParameters.ORIGIN, Vec3d.ofCenter(frontPos))
-			.add(LootContextParameters.TOOL, TRContent.Machine.FISHING_STATION.getStack())
-			.build(LootContextTypes.FISHING);
-
-		final LootTable lootTable = world.getServer().getReloadableRegistries().getLootTable(LootTables.FISHING_GAMEPLAY);
-		final ObjectArrayList<ItemStack> list = lootTable.generateLoot(lootContextParameterSet);
-		if (insertIntoInv(list)){
-			useEnergy(useRequirement);
+		final LootTable lootTable = getLootTable((ServerWorld) world);
+		final LootContextParameterSet lootContextParameterSet = getLootContext((ServerWorld) world, frontPos);
+		boolean caught = false;
+		for (int i = 0; i < catches; i++) {
+			final ObjectArrayList<ItemStack> list = lootTable.generateLoot(lootContextParameterSet);
+			if (insertIntoInv(list)) {
+				useEnergy(useRequirement);
+				caught = true;
+			}
+		}
+		if (caught) {
+			inventory.markDirty();
 		}
 	}
 
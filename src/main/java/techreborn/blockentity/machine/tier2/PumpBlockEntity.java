@@ -24,6 +24,9 @@
 
 package techreborn.blockentity.machine.tier2;
 
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
@@ -35,7 +38,6 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.nbt.NbtCompound;
-import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.sound.SoundCategory;
@@ -43,13 +45,15 @@ import net.minecraft.sound.SoundEvents;
 import net.minecraft.util.ItemScatterer;
 import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
-import reborncore.common.blocks.BlockMachineBase;
 import reborncore.common.fluid.FluidValue;
-import reborncore.common.fluid.container.FluidInstance;
 import reborncore.common.screen.BuiltScreenHandler;
 import reborncore.common.screen.BuiltScreenHandlerProvider;
 import reborncore.common.screen.builder.ScreenHandlerBuilder;
@@ -75,11 +79,27 @@ public class PumpBlockEntity extends GenericMachineBlockEntity implements BuiltS
 	public static final int MIN_DEPTH = 1;
 	public static final int MAX_RANGE = 50;
 	public static final int MAX_DEPTH = 50;
-	private Iterator<BlockPos> finder;
+	/**
+	 * Maximum number of positions checked per tick, so the cost of a tick does not depend on the range.
+	 */
+	private static final int MAX_SCAN_PER_TICK = 1024;
+	/**
+	 * Number of targets found ahead of time. They are checked again before being pumped.
+	 */
+	private static final int PREFETCH_TARGETS = 8;
+	@Nullable
+	private BlockPosIterable volume;
+	// Index in the volume of the next position to scan, saved so the scan continues after a reload
+	private int scanIndex;
+	private final IntArrayFIFOQueue targets = new IntArrayFIFOQueue();
+	// Whether the chunk sections of the section layer being scanned contain a fluid source
+	private final Long2BooleanMap sectionHasFluid = new Long2BooleanOpenHashMap();
+	private int sectionLayer = Integer.MIN_VALUE;
 	@Nullable
 	private Tank tank;
 	private boolean exhausted;
 	private BlockPos pumpedTargetBlockPos;
+	private int pumpedTargetIndex;
 	private long timeToPump;
 	private int range;
 	private int depth;
@@ -127,14 +147,18 @@ public class PumpBlockEntity extends GenericMachineBlockEntity implements BuiltS
 	}
 
 	private void reset() {
-		finder = null;
+		resetScan(0);
 		exhausted = false;
 		pumpedTargetBlockPos = null;
-		world.setBlockState(pos, world.getBlockState(pos).with(BlockMachineBase.ACTIVE, false));
+		setActive(false);
 	}
 
-	private void setupFinder() {
-		this.finder = new BlockPosIterable(pos, range, depth).iterator();
+	private void resetScan(int index) {
+		volume = null;
+		scanIndex = index;
+		targets.clear();
+		sectionHasFluid.clear();
+		sectionLayer = Integer.MIN_VALUE;
 	}
 
 	@Override
@@ -162,7 +186,7 @@ public class PumpBlockEntity extends GenericMachineBlockEntity implements BuiltS
 		getTank().read(tagCompound, registryLookup);
 		this.range = tagCompound.getInt("range");
 		this.depth = tagCompound.getInt("depth");
-		finder = null;
+		resetScan(tagCompound.getInt("scanIndex"));
 	}
 
 	@Override
@@ -171,6 +195,14 @@ public class PumpBlockEntity extends GenericMachineBlockEntity implements BuiltS
 		getTank().write(tagCompound, registryLookup);
 		tagCompound.putInt("range", range);
 		tagCompound.putInt("depth", depth);
+		// Continue from the first position which has not been pumped yet
+		if (pumpedTargetBlockPos != null) {
+			tagCompound.putInt("scanIndex", pumpedTargetIndex);
+		} else if (!targets.isEmpty()) {
+			tagCompound.putInt("scanIndex", targets.firstInt());
+		} else {
+			tagCompound.putInt("scanIndex", scanIndex);
+		}
 	}
 
 	@Override
@@ -180,9 +212,9 @@ public class PumpBlockEntity extends GenericMachineBlockEntity implements BuiltS
 			.energySlot(0, 8, 72)
 			.sync(getTank())
 			.syncEnergyValue()
-			.sync(PacketCodecs.INTEGER, this::getDepth, this::setDepth)
-			.sync(PacketCodecs.INTEGER, this::getRange, this::setRange)
-			.sync(PacketCodecs.BOOL, this::getExhausted, this::setExhausted)
+			.syncInt(this::getDepth, this::setDepth)
+			.syncInt(this::getRange, this::setRange)
+			.syncBoolean(this::getExhausted, this::setExhausted)
 			.addInventory()
 			.create(this, syncID);
 	}
@@ -219,7 +251,7 @@ public class PumpBlockEntity extends GenericMachineBlockEntity implements BuiltS
 					}
 					//drop target (and find the next)
 					pumpedTargetBlockPos = null;
-					world.setBlockState(pos, world.getBlockState(pos).with(BlockMachineBase.ACTIVE, false));
+					setActive(false);
 					return;
 				}
 				//cannot fit fluid into the tank?
@@ -229,11 +261,7 @@ public class PumpBlockEntity extends GenericMachineBlockEntity implements BuiltS
 					return;
 				}
 				//fill tank
-				if (getTank().getFluidInstance().isEmpty()) {
-					getTank().setFluidInstance(new FluidInstance(fluid, FluidValue.BUCKET));
-				} else {
-					getTank().modifyFluid(fluidInstance -> fluidInstance.addAmount(FluidValue.BUCKET));
-				}
+				getTank().fill(fluid, FluidValue.BUCKET.getRawValue());
 				//play sound
 				if (!isMuffled()) {
 					world.playSound(null, this.pos, getTank().getFluid().getBucketFillSound().orElse(SoundEvents.ITEM_BUCKET_FILL), SoundCategory.BLOCKS, 1.0f, 1.0f);
@@ -257,9 +285,9 @@ public class PumpBlockEntity extends GenericMachineBlockEntity implements BuiltS
 			findNextToPump(world);
 			if (pumpedTargetBlockPos != null) {
 				timeToPump = world.getTime() + (long) (TechRebornConfig.pumpTicksToComplete * (1 - getSpeedMultiplier()));
-			} else {
+			} else if (volume != null && scanIndex >= volume.size()) {
 				//else - consider exhausted
-				world.setBlockState(pos, world.getBlockState(pos).with(BlockMachineBase.ACTIVE, false));
+				setActive(false);
 				this.exhausted = true;
 			}
 		}
@@ -267,23 +295,65 @@ public class PumpBlockEntity extends GenericMachineBlockEntity implements BuiltS
 	}
 
 	private void findNextToPump(World world) {
-		if (finder == null) {
-			setupFinder();
+		if (volume == null) {
+			volume = new BlockPosIterable(pos, range, depth);
 		}
-		while (finder.hasNext()) {
-			BlockPos blockPos = finder.next();
-
-			BlockState blockState = world.getBlockState(blockPos);
-			Fluid fluid = getFluid(blockState);
-			if (fluid != Fluids.EMPTY && (fluid == getTank().getFluid() || getTank().getFluid() == Fluids.EMPTY)) {
+		if (targets.isEmpty()) {
+			prefetchTargets(world);
+		}
+		while (!targets.isEmpty()) {
+			int index = targets.dequeueInt();
+			BlockPos blockPos = volume.get(index);
+			//the target could have changed since it was found
+			if (canPump(world.getBlockState(blockPos))) {
 				//if any found - start pumping
-				world.setBlockState(pos, world.getBlockState(pos).with(BlockMachineBase.ACTIVE, true));
+				setActive(true);
 				pumpedTargetBlockPos = blockPos;
+				pumpedTargetIndex = index;
 				return;
 			}
 		}
 	}
 
+	private void prefetchTargets(World world) {
+		BlockPos.Mutable blockPos = new BlockPos.Mutable();
+		int budget = MAX_SCAN_PER_TICK;
+		while (scanIndex < volume.size() && targets.size() < PREFETCH_TARGETS && budget-- > 0) {
+			volume.get(scanIndex, blockPos);
+			if (sectionMayHaveFluid(world, blockPos) && canPump(world.getBlockState(blockPos))) {
+				targets.enqueue(scanIndex);
+			}
+			scanIndex++;
+		}
+	}
+
+	private boolean sectionMayHaveFluid(World world, BlockPos blockPos) {
+		int sectionY = ChunkSectionPos.getSectionCoord(blockPos.getY());
+		if (sectionY != sectionLayer) {
+			sectionHasFluid.clear();
+			sectionLayer = sectionY;
+		}
+		long chunkPos = ChunkPos.toLong(ChunkSectionPos.getSectionCoord(blockPos.getX()), ChunkSectionPos.getSectionCoord(blockPos.getZ()));
+		if (sectionHasFluid.containsKey(chunkPos)) {
+			return sectionHasFluid.get(chunkPos);
+		}
+		Chunk chunk = world.getChunk(blockPos);
+		int sectionIndex = chunk.getSectionIndex(blockPos.getY());
+		boolean hasFluid = false;
+		if (sectionIndex >= 0 && sectionIndex < chunk.getSectionArray().length) {
+			ChunkSection section = chunk.getSection(sectionIndex);
+			// The palette can contain states which are no longer used, so this may give false positives only
+			hasFluid = !section.isEmpty() && section.hasAny(state -> getFluid(state) != Fluids.EMPTY);
+		}
+		sectionHasFluid.put(chunkPos, hasFluid);
+		return hasFluid;
+	}
+
+	private boolean canPump(BlockState blockState) {
+		Fluid fluid = getFluid(blockState);
+		return fluid != Fluids.EMPTY && (fluid == getTank().getFluid() || getTank().getFluid() == Fluids.EMPTY);
+	}
+
 	@NotNull
 	private Fluid getFluid(BlockState blockState) {
 		FluidState fluidState = blockState.getFluidState();
@@ -314,13 +384,11 @@ public class PumpBlockEntity extends GenericMachineBlockEntity implements BuiltS
 	}
 
 	static class BlockPosIterable implements Iterable<BlockPos> {
-		int index;
 		final int layerSize;
 		final int m;
 		final ArrayList<MeasuredPos> layer;
 
 		public BlockPosIterable(BlockPos centerTop, int range, int depth) {
-			this.index = 0;
 			this.layerSize = (range * 2 + 1) * (range * 2 + 1);
 			this.m = layerSize * depth;
 			layer = new ArrayList<>(layerSize);
@@ -330,6 +398,21 @@ public class PumpBlockEntity extends GenericMachineBlockEntity implements BuiltS
 			layer.sort((o1, o2) -> (int) (o1.weight - o2.weight));
 		}
 
+		public int size() {
+			return m;
+		}
+
+		public BlockPos get(int index) {
+			return get(index, new BlockPos.Mutable()).toImmutable();
+		}
+
+		public BlockPos.Mutable get(int index, BlockPos.Mutable pos) {
+			if (!TechRebornConfig.pumpIterateOutwards) {
+				index = m - index - 1;
+			}
+			return pos.set(layer.get(index % layerSize), 0, -(1 + index / layerSize), 0);
+		}
+
 		/**
 		 * Returns an iterator over elements of type {@code T}.
 		 *
@@ -339,6 +422,8 @@ public class PumpBlockEntity extends GenericMachineBlockEntity implements BuiltS
 		@Override
 		public Iterator<BlockPos> iterator() {
 			return new Iterator<>() {
+				int index = 0;
+
 				@Override
 				public boolean hasNext() {
 					return index < m;
@@ -346,14 +431,7 @@ public class PumpBlockEntity extends GenericMachineBlockEntity implements BuiltS
 
 				@Override
 				public BlockPos next() {
-					final BlockPos pos;
-					if (TechRebornConfig.pumpIterateOutwards) {
-						pos = layer.get(index % layerSize).down(1 + index / layerSize);
-					} else {
-						pos = layer.get((m - index - 1) % layerSize).down(1 + (m - index - 1) / layerSize);
-					}
-					index++;
-					return pos;
+					return get(index++);
 				}
 			};
 		}
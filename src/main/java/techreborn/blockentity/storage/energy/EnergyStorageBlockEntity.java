@@ -117,13 +117,9 @@ public class EnergyStorageBlockEntity extends PowerAcceptorBlockEntity implement
 	}
 
 	@Override
-	public Direction getFacingEnum() {
-		if (world == null) {
-			return null;
-		}
-		Block block = world.getBlockState(pos).getBlock();
-		if (block instanceof EnergyStorageBlock) {
-			return ((EnergyStorageBlock) block).getFacing(world.getBlockState(pos));
+	protected Direction readFacing(BlockState state) {
+		if (state.getBlock() instanceof EnergyStorageBlock block) {
+			return block.getFacing(state);
 		}
 		return null;
 	}
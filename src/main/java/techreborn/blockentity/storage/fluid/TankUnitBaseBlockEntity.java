@@ -30,7 +30,6 @@ import net.minecraft.component.type.NbtComponent;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
-import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
@@ -115,8 +114,8 @@ public class TankUnitBaseBlockEntity extends MachineBaseBlockEntity implements I
 		}
 		// allow infinite fluid input for creative tank
 		if (type == TRContent.TankUnit.CREATIVE) {
-			if (!tank.isEmpty() && !tank.getFluidAmount().equals(tank.getFluidValueCapacity().fraction(2))) {
-				tank.setFluidAmount(tank.getFluidValueCapacity().fraction(2));
+			if (!tank.isEmpty() && tank.getAmount() != tank.getCapacity() / 2) {
+				tank.setAmount(tank.getCapacity() / 2);
 			}
 		}
 		// Void excessive fluid in creative tank (#2205)
@@ -200,7 +199,7 @@ public class TankUnitBaseBlockEntity extends MachineBaseBlockEntity implements I
 		return new ScreenHandlerBuilder("tank").player(player.getInventory()).inventory().hotbar()
 				.addInventory().blockEntity(this).fluidSlot(0, 100, 53).outputSlot(1, 140, 53)
 				.sync(tank)
-				.sync(PacketCodecs.VAR_LONG, this::getMaxCapacity, this::setMaxCapacity)
+				.syncLong(this::getMaxCapacity, this::setMaxCapacity)
 
 				.addInventory().create(this, syncID);
 	}
@@ -26,10 +26,10 @@ package techreborn.blockentity.storage.item;
 
 import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
 import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
-import net.fabricmc.fabric.api.transfer.v1.item.base.SingleStackStorage;
-import net.fabricmc.fabric.api.transfer.v1.storage.SlottedStorage;
 import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
-import net.fabricmc.fabric.api.transfer.v1.storage.base.CombinedSlottedStorage;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.CombinedStorage;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.FilteringStorage;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.SingleVariantStorage;
 import net.minecraft.block.BlockState;
 import net.minecraft.component.DataComponentTypes;
 import net.minecraft.component.type.NbtComponent;
@@ -69,15 +69,17 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 	public static final int OUTPUT_SLOT = 1;
 
 	// Client sync variables for GUI, what and how much stored
-	public int storedAmount = 0;
+	public long storedAmount = 0;
 
 	protected final RebornInventory<StorageUnitBaseBlockEntity> inventory;
-	private int maxCapacity;
-	private int serverCapacity = -1;
+	private long maxCapacity;
+	private long serverCapacity = -1;
 
-	private ItemStack storeItemStack;
-	// Fabric transfer API support for the internal stack (one per direction);
-	private final SingleStackStorage[] internalStoreStorage = new SingleStackStorage[6];
+	// Everything not in the output slot. Counts are not limited to a stack, so this can hold the full capacity
+	private final StoredItemStorage storage = new StoredItemStorage();
+	// Fabric transfer API support (one per direction)
+	@SuppressWarnings("unchecked")
+	private final Storage<ItemVariant>[] exposedStorages = new Storage[6];
 
 	private TRContent.StorageUnit type;
 
@@ -100,7 +102,7 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 		if(serverCapacity == -1){
 			this.maxCapacity = type.capacity;
 		}
-		storeItemStack = ItemStack.EMPTY;
+		storage.clear();
 		this.type = type;
 	}
 
@@ -131,39 +133,24 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 	}
 
 	private void populateOutput() {
-		// Set to storeItemStack to get the stack type
-		ItemStack output = storeItemStack.copy();
-
-		int outputSlotCount = inventory.getStack(OUTPUT_SLOT).getCount();
-
-		// Set to current outputSlot count
-		output.setCount(outputSlotCount);
+		ItemStack output = inventory.getStack(OUTPUT_SLOT);
 
 		// Calculate amount needed to fill stack in output slot
-		int amountToFill = getStoredStack().getMaxCount() - outputSlotCount;
+		int amountToFill = (int) Math.min(getStoredStack().getMaxCount() - output.getCount(), storage.amount);
 
-		if (storeItemStack.getCount() >= amountToFill) {
-			storeItemStack.decrement(amountToFill);
-
-			if (storeItemStack.isEmpty()) {
-				storeItemStack = ItemStack.EMPTY;
-			}
-
-			output.increment(amountToFill);
+		if (output.isEmpty()) {
+			output = storage.variant.toStack(amountToFill);
 		} else {
-			output.increment(storeItemStack.getCount());
-			storeItemStack = ItemStack.EMPTY;
+			output = output.copyWithCount(output.getCount() + amountToFill);
 		}
+		storage.remove(amountToFill);
 
 		inventory.setStack(OUTPUT_SLOT, output);
 	}
 
-	private void addStoredItemCount(int amount) {
-		storeItemStack.increment(amount);
-	}
-
+	// The count of the returned stack is not the stored amount, see getCurrentCapacity
 	public ItemStack getStoredStack() {
-		return storeItemStack.isEmpty() ? inventory.getStack(OUTPUT_SLOT) : storeItemStack;
+		return storage.isResourceBlank() ? inventory.getStack(OUTPUT_SLOT) : storage.getStack();
 	}
 
 	// Returns the ItemStack to be displayed to the player via UI / model
@@ -181,7 +168,7 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 
 		if (!isEmpty()) {
 			returnStack = getStoredStack().copy();
-			returnStack.setCount(getCurrentCapacity());
+			returnStack.setCount((int) Math.min(getCurrentCapacity(), Integer.MAX_VALUE));
 		}
 
 		return returnStack;
@@ -193,17 +180,12 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 		}
 
 		// Amount of items that can be added before reaching capacity
-		int reminder = maxCapacity - getCurrentCapacity();
+		long reminder = maxCapacity - getCurrentCapacity();
 		DefaultedList<ItemStack> optionalShulkerStack = ItemUtils.getBlockEntityStacks(inputStack);
 		if (isLocked() && ItemUtils.canExtractFromCachedShulker(optionalShulkerStack, lockedItemStack) > 0 ) {
-			Pair<Integer, ItemStack> pair = ItemUtils.extractFromShulker(inputStack, optionalShulkerStack, lockedItemStack, reminder);
+			Pair<Integer, ItemStack> pair = ItemUtils.extractFromShulker(inputStack, optionalShulkerStack, lockedItemStack, (int) Math.min(reminder, Integer.MAX_VALUE));
 			if (pair.getLeft() != 0) {
-				int amount = pair.getLeft();
-				if (storeItemStack.isEmpty()) {
-					storeItemStack = lockedItemStack.copy();
-					amount = amount -1;
-				}
-				addStoredItemCount(amount);
+				storage.add(ItemVariant.of(lockedItemStack), pair.getLeft());
 				inputStack = pair.getRight().copy();
 				inventory.setHashChanged();
 			}
@@ -211,24 +193,12 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 		}
 		if (inputStack.getCount() <= reminder) {
 			// Add full stack
-			if (storeItemStack == ItemStack.EMPTY){
-				// copy input stack into stored if everything is in OUTPUT_SLOT
-				storeItemStack = inputStack.copy();
-			}
-			else {
-				addStoredItemCount(inputStack.getCount());
-			}
-
+			storage.add(ItemVariant.of(inputStack), inputStack.getCount());
 			inputStack = ItemStack.EMPTY;
 		} else {
 			// Add only what is needed to reach max capacity
-			if (storeItemStack == ItemStack.EMPTY) {
-				storeItemStack = inputStack.copy();
-				storeItemStack.setCount(reminder);
-			} else {
-				addStoredItemCount(reminder);
-			}
-			inputStack.decrement(reminder);
+			storage.add(ItemVariant.of(inputStack), reminder);
+			inputStack.decrement((int) reminder);
 		}
 
 		inventory.setHashChanged();
@@ -237,18 +207,20 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 
 	// Creative function
 	private void fillToCapacity() {
-		storeItemStack = getStoredStack();
-		storeItemStack.setCount(maxCapacity);
+		if (storage.isResourceBlank()) {
+			storage.variant = ItemVariant.of(inventory.getStack(OUTPUT_SLOT));
+		}
+		storage.amount = maxCapacity;
 
 		inventory.setStack(OUTPUT_SLOT, ItemStack.EMPTY);
 	}
 
 	public boolean isFull() {
-		return getCurrentCapacity() == maxCapacity;
+		return getCurrentCapacity() >= maxCapacity;
 	}
 
-	public int getCurrentCapacity() {
-		return storeItemStack.getCount() + inventory.getStack(OUTPUT_SLOT).getCount();
+	public long getCurrentCapacity() {
+		return storage.amount + inventory.getStack(OUTPUT_SLOT).getCount();
 	}
 
 	// MachineBaseBlockEntity
@@ -264,7 +236,7 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 		}
 
 		// Fill output slot with goodies when stored has items and output count is less than max stack size
-		if (storeItemStack.getCount() > 0 && inventory.getStack(OUTPUT_SLOT).getCount() < getStoredStack().getMaxCount()) {
+		if (storage.amount > 0 && inventory.getStack(OUTPUT_SLOT).getCount() < getStoredStack().getMaxCount()) {
 			populateOutput();
 		}
 
@@ -305,19 +277,17 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 			this.type = TRContent.StorageUnit.QUANTUM;
 		}
 
-		storeItemStack = ItemStack.EMPTY;
+		storage.clear();
 
 		if (tagCompound.contains("storedStack")) {
-			storeItemStack = ItemStack.fromNbt(registryLookup, tagCompound.getCompound("storedStack")).orElseThrow();
-		}
-
-		if (!storeItemStack.isEmpty()) {
-			storeItemStack.setCount(Math.min(tagCompound.getInt("storedQuantity"), this.maxCapacity));
+			ItemVariant variant = ItemVariant.of(ItemStack.fromNbt(registryLookup, tagCompound.getCompound("storedStack")).orElseThrow());
+			// Older units saved an int, getLong reads both
+			storage.add(variant, Math.min(tagCompound.getLong("storedQuantity"), this.maxCapacity));
 		}
 
 		// Renderer only
 		if (tagCompound.contains("totalStoredAmount")) {
-			storedAmount = tagCompound.getInt("totalStoredAmount");
+			storedAmount = tagCompound.getLong("totalStoredAmount");
 		}
 
 		if (tagCompound.contains("lockedItem")) {
@@ -331,19 +301,15 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 
 		tagCompound.putString("unitType", this.type.name());
 
-		if (!storeItemStack.isEmpty()) {
-			ItemStack temp = storeItemStack.copy();
-			if (storeItemStack.getCount() > storeItemStack.getMaxCount()) {
-				temp.setCount(storeItemStack.getMaxCount());
-			}
-			tagCompound.put("storedStack", temp.encode(registryLookup, new NbtCompound()));
-			tagCompound.putInt("storedQuantity", Math.min(storeItemStack.getCount(), maxCapacity));
+		if (!storage.isResourceBlank()) {
+			tagCompound.put("storedStack", storage.getStack().encode(registryLookup, new NbtCompound()));
+			tagCompound.putLong("storedQuantity", Math.min(storage.amount, maxCapacity));
 		} else {
-			tagCompound.putInt("storedQuantity", 0);
+			tagCompound.putLong("storedQuantity", 0);
 		}
 
 		// Renderer only
-		tagCompound.putInt("totalStoredAmount", getCurrentCapacity());
+		tagCompound.putLong("totalStoredAmount", getCurrentCapacity());
 
 		if (isLocked()) {
 			tagCompound.put("lockedItem", lockedItemStack.encode(registryLookup));
@@ -360,25 +326,12 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 			return;
 		}
 
-		if (storeItemStack != ItemStack.EMPTY) {
-			if (storeItemStack.getMaxCount() == 64) {
-				// Drop stacks (In one clump, reduce lag)
-				WorldUtils.dropItem(storeItemStack, world, pos);
-			} else {
-				int size = storeItemStack.getMaxCount();
-
-				for (int i = 0; i < storeItemStack.getCount() / size; i++) {
-					ItemStack toDrop = storeItemStack.copy();
-					toDrop.setCount(size);
-					WorldUtils.dropItem(toDrop, world, pos);
-				}
-
-				if (storeItemStack.getCount() % size != 0) {
-					ItemStack toDrop = storeItemStack.copy();
-					toDrop.setCount(storeItemStack.getCount() % size);
-					WorldUtils.dropItem(toDrop, world, pos);
-				}
+		if (!storage.isResourceBlank()) {
+			// Drop stacks of 64 in as few clumps as possible to reduce lag
+			int size = storage.getStack().getMaxCount() == 64 ? Integer.MAX_VALUE : storage.getStack().getMaxCount();
 
+			for (long remaining = storage.amount; remaining > 0; remaining -= size) {
+				WorldUtils.dropItem(storage.variant.toStack((int) Math.min(remaining, size)), world, pos);
 			}
 		}
 
@@ -480,10 +433,11 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 				.blockEntity(this)
 				.slot(INPUT_SLOT, 100, 53)
 				.outputSlot(OUTPUT_SLOT, 140, 53)
-				.sync(PacketCodecs.INTEGER, this::isLockedInt, this::setLockedInt)
+				.syncInt(this::isLockedInt, this::setLockedInt)
 				.sync(PacketCodecs.NBT_COMPOUND, this::getStoredStackNBT, this::setStoredStackFromNBT)
-				.sync(PacketCodecs.INTEGER, this::getStoredAmount, this::setStoredAmount)
-				.sync(PacketCodecs.INTEGER, this::getMaxCapacity, this::setMaxCapacity)
+				.syncLong(() -> storage.amount, amount -> storage.amount = amount)
+				.syncLong(this::getStoredAmount, this::setStoredAmount)
+				.syncLong(this::getMaxCapacity, this::setMaxCapacity)
 				.addInventory().create(this, syncID);
 
 		// Note that inventory is synced, and it gets the stack from that
@@ -498,35 +452,30 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 		setLocked(lockedInt == 1);
 	}
 
-	public int getStoredAmount() {
+	public long getStoredAmount() {
 		return this.getCurrentCapacity();
 	}
 
-	public void setStoredAmount(int storedAmount) {
+	public void setStoredAmount(long storedAmount) {
 		this.storedAmount = storedAmount;
 	}
 
 	// Sync between server/client if configs are mis-matched.
-	public int getMaxCapacity() {
+	public long getMaxCapacity() {
 		return this.maxCapacity;
 	}
 
-	public void setMaxCapacity(int maxCapacity) {
+	public void setMaxCapacity(long maxCapacity) {
 		this.maxCapacity = maxCapacity;
 		this.serverCapacity = maxCapacity;
 	}
 
+	// Only the item is synced here, the amount is synced as a long
 	public NbtCompound getStoredStackNBT() {
 		NbtCompound tag = new NbtCompound();
-		ItemStack stack = getStoredStack();
-
-		tag.putInt("count", stack.getCount());
 
-		if (!stack.isEmpty()) {
-			// We are not allowed to serialize empty or large stacks
-			ItemStack singleStack = stack.copy();
-			singleStack.setCount(1);
-			tag.put("item", singleStack.encode(world.getRegistryManager(), new NbtCompound()));
+		if (!storage.isResourceBlank()) {
+			tag.put("item", storage.getStack().encode(world.getRegistryManager(), new NbtCompound()));
 		}
 
 		return tag;
@@ -534,66 +483,91 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 
 	public void setStoredStackFromNBT(NbtCompound tag) {
 		if (!tag.contains("item")) {
-			storeItemStack = ItemStack.EMPTY;
+			storage.variant = ItemVariant.blank();
 		} else {
-			storeItemStack = ItemStack.fromNbt(world.getRegistryManager(), tag.getCompound("item")).orElseThrow();
+			storage.variant = ItemVariant.of(ItemStack.fromNbt(world.getRegistryManager(), tag.getCompound("item")).orElseThrow());
 		}
-
-		storeItemStack.setCount(tag.getInt("count"));
 	}
 
-	private SlottedStorage<ItemVariant> getInternalStoreStorage(@Nullable Direction direction) {
+	public Storage<ItemVariant> getExposedStorage(@Nullable Direction direction) {
 		// Quick fix to handle null sides. https://github.com/TechReborn/TechReborn/issues/3175
 		final Direction side = direction != null ? direction : Direction.DOWN;
 
-		if (internalStoreStorage[side.getId()] == null) {
-			internalStoreStorage[side.getId()] = new SingleStackStorage() {
+		if (exposedStorages[side.getId()] == null) {
+			Storage<ItemVariant> sidedStorage = new FilteringStorage<>(storage) {
 				@Override
-				protected ItemStack getStack() {
-					return storeItemStack;
-				}
-
-				@Override
-				protected void setStack(ItemStack stack) {
-					if (stack.isEmpty()) {
-						// Ensure we maintain reference equality to EMPTY
-						storeItemStack = ItemStack.EMPTY;
-					} else {
-						storeItemStack = stack;
-					}
-				}
-
-				@Override
-				protected int getCapacity(ItemVariant itemVariant) {
-					// subtract capacity of output slot (super capacity is the default capacity)
-					return maxCapacity - super.getCapacity(itemVariant);
-				}
-
-				@Override
-				protected boolean canInsert(ItemVariant itemVariant) {
+				protected boolean canInsert(ItemVariant resource) {
 					// Check insertion with the same rules as the input slot
-					return StorageUnitBaseBlockEntity.this.canInsert(INPUT_SLOT, itemVariant.toStack(), side);
+					return StorageUnitBaseBlockEntity.this.canInsert(INPUT_SLOT, resource.toStack(), side);
 				}
 
 				@Override
-				protected boolean canExtract(ItemVariant itemVariant) {
+				protected boolean canExtract(ItemVariant resource) {
 					// Check extraction with the same rules as the output slot
-					return StorageUnitBaseBlockEntity.this.canExtract(OUTPUT_SLOT, itemVariant.toStack(), side);
-				}
-
-				@Override
-				protected void onFinalCommit() {
-					inventory.setHashChanged();
+					return StorageUnitBaseBlockEntity.this.canExtract(OUTPUT_SLOT, resource.toStack(), side);
 				}
 			};
+			exposedStorages[side.getId()] = new CombinedStorage<>(List.of(
+					sidedStorage,
+					InventoryStorage.of(this, side)
+			));
 		}
-		return internalStoreStorage[side.getId()];
+		return exposedStorages[side.getId()];
 	}
 
-	public Storage<ItemVariant> getExposedStorage(Direction side) {
-		return new CombinedSlottedStorage<>(List.of(
-				getInternalStoreStorage(side),
-				InventoryStorage.of(this, side)
-		));
+	/**
+	 * Bulk storage for the items which are not in the output slot. Any amount up to the capacity of the
+	 * unit can be inserted or extracted in a single transaction.
+	 */
+	private class StoredItemStorage extends SingleVariantStorage<ItemVariant> {
+		// Single item copy of the variant, used for the stack based code
+		private ItemStack stack = ItemStack.EMPTY;
+
+		@Override
+		protected ItemVariant getBlankVariant() {
+			return ItemVariant.blank();
+		}
+
+		@Override
+		protected long getCapacity(ItemVariant variant) {
+			// The output slot counts towards the capacity of the unit
+			return maxCapacity - inventory.getStack(OUTPUT_SLOT).getCount();
+		}
+
+		@Override
+		protected boolean canInsert(ItemVariant variant) {
+			return isValid(INPUT_SLOT, variant.toStack());
+		}
+
+		@Override
+		protected void onFinalCommit() {
+			inventory.setHashChanged();
+		}
+
+		ItemStack getStack() {
+			if (!variant.matches(stack)) {
+				stack = variant.toStack();
+			}
+			return stack;
+		}
+
+		void add(ItemVariant variant, long count) {
+			if (isResourceBlank()) {
+				this.variant = variant;
+			}
+			amount += count;
+		}
+
+		void remove(long count) {
+			amount -= count;
+			if (amount <= 0) {
+				clear();
+			}
+		}
+
+		void clear() {
+			variant = ItemVariant.blank();
+			amount = 0;
+		}
 	}
 }
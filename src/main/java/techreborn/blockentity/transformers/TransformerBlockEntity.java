@@ -119,13 +119,9 @@ public class TransformerBlockEntity extends PowerAcceptorBlockEntity implements
 
 	// MachineBaseBlockEntity
 	@Override
-	public Direction getFacingEnum() {
-		if (world == null) {
-			return null;
-		}
-		Block block = world.getBlockState(pos).getBlock();
-		if (block instanceof BlockTransformer) {
-			return ((BlockTransformer) block).getFacing(world.getBlockState(pos));
+	protected Direction readFacing(BlockState state) {
+		if (state.getBlock() instanceof BlockTransformer block) {
+			return block.getFacing(state);
 		}
 		return null;
 	}
@@ -73,7 +73,7 @@ public class PlayerDetectorBlock extends BlockMachineBase {
 		super.onPlaced(worldIn, pos, state, placer, stack);
 		BlockEntity blockEntity = worldIn.getBlockEntity(pos);
 		if (blockEntity instanceof PlayerDetectorBlockEntity) {
-			((PlayerDetectorBlockEntity) blockEntity).ownerUdid = placer.getUuid().toString();
+			((PlayerDetectorBlockEntity) blockEntity).setOwner(placer.getUuid());
 		}
 	}
 
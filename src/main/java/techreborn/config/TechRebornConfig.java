@@ -214,6 +214,12 @@ public class TechRebornConfig {
 	@Config(config = "items", category = "power", key = "industrialChainsawCost", comment = "Energy Cost for Industrial Chainsaw")
 	public static int industrialChainsawCost = 150;
 
+	@Config(config = "items", category = "general", key = "industrialChainsawMaxLogs", comment = "Maximum amount of logs the Industrial Chainsaw fells at once")
+	public static int industrialChainsawMaxLogs = 64;
+
+	@Config(config = "items", category = "general", key = "industrialChainsawMaxLeaves", comment = "Maximum amount of leaves the Industrial Chainsaw searches through for logs")
+	public static int industrialChainsawMaxLeaves = 150;
+
 	@Config(config = "items", category = "power", key = "basicJackhammerCharge", comment = "Energy Capacity for Basic Jackhammer")
 	public static int basicJackhammerCharge = 10_000;
 
@@ -689,6 +695,9 @@ public class TechRebornConfig {
 	@Config(config = "misc", category = "nuke", key = "enabled", comment = "Should the nuke explode, set to false to prevent block damage")
 	public static boolean nukeEnabled = true;
 
+	@Config(config = "misc", category = "nuke", key = "tickTime", comment = "Maximum time in milliseconds the nuke explosion can use each tick, the explosion is spread over several ticks")
+	public static int nukeTickTime = 10;
+
 	@Config(config = "misc", category = "resin_basin", key = "saptime", comment = "How long it takes to harvest one sap (ticks)")
 	public static int sapTimeTicks = 80;
 
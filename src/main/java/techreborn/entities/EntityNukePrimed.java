@@ -103,7 +103,8 @@ public class EntityNukePrimed extends TntEntity {
 		}
 		RebornExplosion nukeExplosion = new RebornExplosion(getBlockPos(), getWorld(), TechRebornConfig.nukeRadius);
 		nukeExplosion.setLivingBase(getOwner());
-		nukeExplosion.applyExplosion();
+		nukeExplosion.setTickTime(TechRebornConfig.nukeTickTime);
+		nukeExplosion.schedule();
 	}
 
 	@Override
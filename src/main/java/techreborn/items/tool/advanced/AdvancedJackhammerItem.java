@@ -24,6 +24,7 @@
 
 package techreborn.items.tool.advanced;
 
+import it.unimi.dsi.fastutil.longs.LongList;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
@@ -65,7 +66,9 @@ public class AdvancedJackhammerItem extends JackhammerItem implements MultiBlock
 		}
 
 		// Do AoE mining except original block
-		for (BlockPos additionalPos : ToolsUtil.getAOEMiningBlocks(worldIn, pos, entityLiving, 1)) {
+		LongList targets = ToolsUtil.getAOEMiningTargets(pos, entityLiving, 1);
+		for (int i = 0; i < targets.size(); i++) {
+			BlockPos additionalPos = BlockPos.fromLong(targets.getLong(i));
 			if (shouldBreak(worldIn, pos, additionalPos)) {
 				ToolsUtil.breakBlock(stack, worldIn, additionalPos, entityLiving, cost);
 			}
@@ -102,7 +105,7 @@ public class AdvancedJackhammerItem extends JackhammerItem implements MultiBlock
 		if (!isCorrectForDrops(stack, worldIn.getBlockState(pos))) {
 			return Collections.emptySet();
 		}
-		return ToolsUtil.getAOEMiningBlocks(worldIn, pos, entityLiving, 1, false)
+		return ToolsUtil.getAOEMiningBlocks(pos, entityLiving, 1)
 			.stream()
 			.filter((blockPos -> shouldBreak(worldIn, pos, blockPos)))
 			.collect(Collectors.toSet());
@@ -24,6 +24,10 @@
 
 package techreborn.items.tool.industrial;
 
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.item.tooltip.TooltipType;
@@ -45,7 +49,6 @@ import techreborn.items.tool.ChainsawItem;
 import techreborn.utils.TRItemUtils;
 import techreborn.utils.ToolsUtil;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class IndustrialChainsawItem extends ChainsawItem {
@@ -70,27 +73,40 @@ public class IndustrialChainsawItem extends ChainsawItem {
 		return isValidLog(state) || isValidLeaves(state);
 	}
 
-	private void findWood(World world, BlockPos pos, List<BlockPos> wood, List<BlockPos> leaves) {
-		//Limit the amount of wood to be broken to 64 blocks.
-		if (wood.size() >= 64) {
-			return;
-		}
-		//Search 150 leaves for wood
-		if (leaves.size() >= 150) {
-			return;
-		}
-		for (Direction facing : SEARCH_ORDER) {
-			BlockPos checkPos = pos.offset(facing);
-			if (!wood.contains(checkPos) && !leaves.contains(checkPos)) {
-				BlockState state = world.getBlockState(checkPos);
+	/**
+	 * Flood-fills logs and leaves connected to {@code start}, closest first, until either budget
+	 * from the config is spent. The start position itself is never included.
+	 */
+	private void findWood(World world, BlockPos start, LongList wood, LongList leaves) {
+		final int maxLogs = TechRebornConfig.industrialChainsawMaxLogs;
+		final int maxLeaves = TechRebornConfig.industrialChainsawMaxLeaves;
+		final LongOpenHashSet visited = new LongOpenHashSet((maxLogs + maxLeaves) * SEARCH_ORDER.length);
+		final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+		final BlockPos.Mutable checkPos = new BlockPos.Mutable();
+
+		visited.add(start.asLong());
+		queue.enqueue(start.asLong());
+
+		while (!queue.isEmpty()) {
+			long pos = queue.dequeueLong();
+			for (Direction facing : SEARCH_ORDER) {
+				long next = BlockPos.offset(pos, facing);
+				if (!visited.add(next)) {
+					continue;
+				}
+				BlockState state = world.getBlockState(checkPos.set(next));
 
 				if (isValidLog(state)) {
-					wood.add(checkPos);
-					findWood(world, checkPos, wood, leaves);
+					wood.add(next);
 				} else if (isValidLeaves(state)) {
-					leaves.add(checkPos);
-					findWood(world, checkPos, wood, leaves);
+					leaves.add(next);
+				} else {
+					continue;
+				}
+				if (wood.size() >= maxLogs || leaves.size() >= maxLeaves) {
+					return;
 				}
+				queue.enqueue(next);
 			}
 		}
 	}
@@ -98,16 +114,12 @@ public class IndustrialChainsawItem extends ChainsawItem {
 	//ChainsawItem
 	@Override
 	public boolean postMine(ItemStack stack, World worldIn, BlockState blockIn, BlockPos pos, LivingEntity entityLiving) {
-		List<BlockPos> wood = new ArrayList<>();
-		List<BlockPos> leaves = new ArrayList<>();
 		if (TRItemUtils.isActive(stack) && (lastCheckedBlockState == null || isValidStartBlock(lastCheckedBlockState))) {
+			LongList wood = new LongArrayList();
+			LongList leaves = new LongArrayList();
 			findWood(worldIn, pos, wood, leaves);
-			wood.remove(pos);
-			wood.stream()
-					.filter(p -> tryUseEnergy(stack, cost))
-					.forEach(pos1 -> ToolsUtil.breakBlock(stack, worldIn, pos1, entityLiving, cost));
-			leaves.remove(pos);
-			leaves.forEach(pos1 -> ToolsUtil.breakBlock(stack, worldIn, pos1, entityLiving, 0));
+			ToolsUtil.breakBlocks(stack, worldIn, wood, entityLiving, cost, pos);
+			ToolsUtil.breakBlocks(stack, worldIn, leaves, entityLiving, 0, pos);
 		}
 		return super.postMine(stack, worldIn, blockIn, pos, entityLiving);
 	}
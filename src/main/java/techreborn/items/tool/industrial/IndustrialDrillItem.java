@@ -24,6 +24,7 @@
 
 package techreborn.items.tool.industrial;
 
+import it.unimi.dsi.fastutil.longs.LongList;
 import net.minecraft.block.BlockState;
 import net.minecraft.item.tooltip.TooltipType;
 import net.minecraft.entity.LivingEntity;
@@ -78,7 +79,9 @@ public class IndustrialDrillItem extends DrillItem {
 		if (!(entityLiving instanceof PlayerEntity playerIn)) {
 			return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
 		}
-		for (BlockPos additionalPos : ToolsUtil.getAOEMiningBlocks(worldIn, pos, entityLiving, 1)) {
+		LongList targets = ToolsUtil.getAOEMiningTargets(pos, entityLiving, 1);
+		for (int i = 0; i < targets.size(); i++) {
+			BlockPos additionalPos = BlockPos.fromLong(targets.getLong(i));
 			if (shouldBreak(playerIn, worldIn, pos, additionalPos)) {
 				ToolsUtil.breakBlock(stack, worldIn, additionalPos, entityLiving, cost);
 			}
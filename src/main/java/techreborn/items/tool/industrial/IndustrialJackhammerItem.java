@@ -24,6 +24,7 @@
 
 package techreborn.items.tool.industrial;
 
+import it.unimi.dsi.fastutil.longs.LongList;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
@@ -95,7 +96,9 @@ public class IndustrialJackhammerItem extends JackhammerItem implements MultiBlo
 
 		// Do AoE mining except original block
 		int radius = isAOE5(stack) ? 2 : 1;
-		for (BlockPos additionalPos : ToolsUtil.getAOEMiningBlocks(worldIn, pos, entityLiving, radius)) {
+		LongList targets = ToolsUtil.getAOEMiningTargets(pos, entityLiving, radius);
+		for (int i = 0; i < targets.size(); i++) {
+			BlockPos additionalPos = BlockPos.fromLong(targets.getLong(i));
 			if (shouldBreak(worldIn, pos, additionalPos)) {
 				ToolsUtil.breakBlock(stack, worldIn, additionalPos, entityLiving, cost);
 			}
@@ -151,7 +154,7 @@ public class IndustrialJackhammerItem extends JackhammerItem implements MultiBlo
 			return Collections.emptySet();
 		}
 		int radius = isAOE5(stack) ? 2 : 1;
-		return ToolsUtil.getAOEMiningBlocks(worldIn, pos, entityLiving, radius, false)
+		return ToolsUtil.getAOEMiningBlocks(pos, entityLiving, radius)
 			.stream()
 			.filter((blockPos -> shouldBreak(worldIn, pos, blockPos)))
 			.collect(Collectors.toSet());
@@ -24,28 +24,36 @@
 
 package techreborn.utils;
 
-import com.google.common.collect.ImmutableSet;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.hit.BlockHitResult;
-import net.minecraft.util.hit.HitResult;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.stat.Stats;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
 import reborncore.common.powerSystem.RcEnergyItem;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
  * @author drcrazy
  */
 public class ToolsUtil {
+	private static final ThreadLocal<LongArrayList> AOE_TARGETS = ThreadLocal.withInitial(LongArrayList::new);
+
 	public static void breakBlock(ItemStack tool, World world, BlockPos pos, LivingEntity entityLiving, int cost) {
 		if (!(entityLiving instanceof PlayerEntity)) {
 			return;
@@ -64,64 +72,117 @@ public class ToolsUtil {
 		world.removeBlockEntity(pos);
 	}
 
+	/**
+	 * Breaks a batch of blocks in one pass, charging {@code cost} for each of them. Drops of every
+	 * block are merged and spawned at {@code dropPos} instead of one item entity per block.
+	 *
+	 * @param tool         {@link ItemStack} Tool used, must be an {@link RcEnergyItem}
+	 * @param world        {@link World} World reference
+	 * @param positions    {@link LongList} Packed positions of the blocks to break
+	 * @param entityLiving {@link LivingEntity} Player who broke the blocks
+	 * @param cost         {@code int} Energy cost per block, breaking stops once the tool runs out
+	 * @param dropPos      {@link BlockPos} Position to spawn the merged drops at
+	 */
+	public static void breakBlocks(ItemStack tool, World world, LongList positions, LivingEntity entityLiving, int cost, BlockPos dropPos) {
+		if (!(entityLiving instanceof PlayerEntity player) || !(world instanceof ServerWorld serverWorld)) {
+			return;
+		}
+		RcEnergyItem energyItem = (RcEnergyItem) tool.getItem();
+		List<ItemStack> drops = new ArrayList<>();
+
+		for (int i = 0; i < positions.size(); i++) {
+			BlockPos pos = BlockPos.fromLong(positions.getLong(i));
+			BlockState blockState = world.getBlockState(pos);
+			if (blockState.isAir() || blockState.getHardness(world, pos) == -1.0F) {
+				continue;
+			}
+
+			if (!energyItem.tryUseEnergy(tool, cost)) {
+				break;
+			}
+
+			BlockEntity blockEntity = blockState.hasBlockEntity() ? world.getBlockEntity(pos) : null;
+			player.incrementStat(Stats.MINED.getOrCreateStat(blockState.getBlock()));
+			player.addExhaustion(0.005F);
+			for (ItemStack drop : Block.getDroppedStacks(blockState, serverWorld, pos, blockEntity, player, tool)) {
+				mergeDrop(drops, drop);
+			}
+			blockState.onStacksDropped(serverWorld, pos, tool, true);
+			world.setBlockState(pos, Blocks.AIR.getDefaultState());
+		}
+
+		for (ItemStack drop : drops) {
+			Block.dropStack(world, dropPos, drop);
+		}
+	}
+
+	private static void mergeDrop(List<ItemStack> drops, ItemStack drop) {
+		for (ItemStack stack : drops) {
+			if (drop.isEmpty()) {
+				return;
+			}
+			if (stack.getCount() < stack.getMaxCount() && ItemStack.areItemsAndComponentsEqual(stack, drop)) {
+				int amount = Math.min(drop.getCount(), stack.getMaxCount() - stack.getCount());
+				stack.increment(amount);
+				drop.decrement(amount);
+			}
+		}
+		if (!drop.isEmpty()) {
+			drops.add(drop);
+		}
+	}
+
 	/**
 	 * Fills in set of {@link BlockPos} which should be broken by AOE mining
 	 *
-	 * @param worldIn      {@link World} World reference
 	 * @param pos          {@link BlockPos} Position of originally broken block
 	 * @param entityLiving {@link LivingEntity} Player who broke block
 	 * @param radius       {@code int} Radius of additional blocks to include. E.g. for 3x3 mining radius will be 1
 	 * @return {@link Set} Set of {@link BlockPos} to process by tool block break logic
 	 */
-	public static Set<BlockPos> getAOEMiningBlocks(World worldIn, BlockPos pos, @Nullable LivingEntity entityLiving, int radius) {
-		return getAOEMiningBlocks(worldIn, pos, entityLiving, radius, true);
+	public static Set<BlockPos> getAOEMiningBlocks(BlockPos pos, @Nullable LivingEntity entityLiving, int radius) {
+		LongList targets = getAOEMiningTargets(pos, entityLiving, radius);
+		if (targets.isEmpty()) {
+			return Collections.emptySet();
+		}
+		Set<BlockPos> targetBlocks = new HashSet<>(targets.size());
+		for (int i = 0; i < targets.size(); i++) {
+			targetBlocks.add(BlockPos.fromLong(targets.getLong(i)));
+		}
+		return targetBlocks;
 	}
 
 	/**
-	 * Fills in set of {@link BlockPos} which should be broken by AOE mining
+	 * Fills in packed positions which should be broken by AOE mining. The returned list is a per-thread buffer
+	 * that is reused by the next call, so it must be consumed before mining again.
 	 *
-	 * @param worldIn          {@link World} World reference
-	 * @param pos              {@link BlockPos} Position of originally broken block
-	 * @param entityLiving     {@link LivingEntity} Player who broke block
-	 * @param radius           {@code int} Radius of additional blocks to include. E.g. for 3x3 mining radius will be 1
-	 * @param placeDummyBlocks {@code boolean} Whether to place dummy blocks
-	 * @return {@link Set} Set of {@link BlockPos} to process by tool block break logic
+	 * @param pos          {@link BlockPos} Position of originally broken block
+	 * @param entityLiving {@link LivingEntity} Player who broke block
+	 * @param radius       {@code int} Radius of additional blocks to include. E.g. for 3x3 mining radius will be 1
+	 * @return {@link LongList} Packed positions to process by tool block break logic
 	 */
-	public static Set<BlockPos> getAOEMiningBlocks(World worldIn, BlockPos pos, @Nullable LivingEntity entityLiving, int radius, boolean placeDummyBlocks) {
+	public static LongList getAOEMiningTargets(BlockPos pos, @Nullable LivingEntity entityLiving, int radius) {
+		LongArrayList targetBlocks = AOE_TARGETS.get();
+		targetBlocks.clear();
 		if (!(entityLiving instanceof PlayerEntity playerIn)) {
-			return ImmutableSet.of();
+			return targetBlocks;
 		}
-		Set<BlockPos> targetBlocks = new HashSet<>();
 
-		if (placeDummyBlocks) {
-			//Put a dirt block down to raytrace with to stop it raytracing past the intended block
-			worldIn.setBlockState(pos, Blocks.DIRT.getDefaultState());
-		}
-
-		HitResult hitResult = playerIn.raycast(20D, 0F, false);
-
-		if (placeDummyBlocks) {
-			worldIn.setBlockState(pos, Blocks.AIR.getDefaultState());
-		}
-
-		if (!(hitResult instanceof BlockHitResult)) {
-			return Collections.emptySet();
-		}
-		Direction direction = ((BlockHitResult) hitResult).getSide();
+		Direction direction = getHitSide(pos, playerIn.getEyePos(), playerIn.getRotationVec(1.0F));
 
 		if (direction == Direction.SOUTH || direction == Direction.NORTH) {
 			for (int x = -radius; x <= radius; x++) {
 				for (int y = -1; y <= 1 + (radius - 1) * 2; y++) {
-					targetBlocks.add(pos.add(x, y, 0));
+					targetBlocks.add(BlockPos.add(pos.asLong(), x, y, 0));
 				}
 			}
 		} else if (direction == Direction.EAST || direction == Direction.WEST) {
 			for (int z = -radius; z <= radius; z++) {
 				for (int y = -1; y <= 1 + (radius - 1) * 2; y++) {
-					targetBlocks.add(pos.add(0, y, z));
+					targetBlocks.add(BlockPos.add(pos.asLong(), 0, y, z));
 				}
 			}
-		} else if (direction == Direction.DOWN || direction == Direction.UP) {
+		} else {
 			Direction playerDirection = playerIn.getHorizontalFacing();
 			int minX = 0;
 			int maxX = 0;
@@ -156,10 +217,43 @@ public class ToolsUtil {
 			}
 			for (int x = minX; x <= maxX; x++) {
 				for (int z = minZ; z <= maxZ; z++) {
-					targetBlocks.add(pos.add(x, 0, z));
+					targetBlocks.add(BlockPos.add(pos.asLong(), x, 0, z));
 				}
 			}
 		}
 		return targetBlocks;
 	}
+
+	/**
+	 * Works out which face of the block at {@code pos} a ray enters through, the same side a raycast against
+	 * that block would report. The ray is intersected with the block's unit cube, so the world is never queried
+	 * and the block may already be gone.
+	 *
+	 * @param pos  {@link BlockPos} Position of the block that was looked at
+	 * @param eye  {@link Vec3d} Start of the ray
+	 * @param look {@link Vec3d} Direction of the ray
+	 * @return {@link Direction} Side of the block facing the ray origin
+	 */
+	public static Direction getHitSide(BlockPos pos, Vec3d eye, Vec3d look) {
+		double tx = entryTime(eye.x, look.x, pos.getX());
+		double ty = entryTime(eye.y, look.y, pos.getY());
+		double tz = entryTime(eye.z, look.z, pos.getZ());
+
+		// The ray enters the cube through the slab it crosses last
+		if (tx >= ty && tx >= tz) {
+			return look.x > 0 ? Direction.WEST : Direction.EAST;
+		}
+		if (ty >= tz) {
+			return look.y > 0 ? Direction.DOWN : Direction.UP;
+		}
+		return look.z > 0 ? Direction.NORTH : Direction.SOUTH;
+	}
+
+	private static double entryTime(double origin, double direction, int min) {
+		if (direction == 0) {
+			return Double.NEGATIVE_INFINITY;
+		}
+		double plane = direction > 0 ? min : min + 1;
+		return (plane - origin) / direction;
+	}
 }